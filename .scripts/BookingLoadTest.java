@@ -0,0 +1,129 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Fires N concurrent POST /api/booking requests at booking-service and prints
+ * throughput and latency percentiles for each concurrency level.
+ *
+ * Usage: java .scripts/BookingLoadTest.java <booking-url> <label> <concurrency>...
+ * Example: java .scripts/BookingLoadTest.java http://localhost:8081 virtual 1000 5000 10000
+ */
+public class BookingLoadTest {
+
+    // Requests are spread over room ids 1..rooms (available rooms seeded by hotel-service
+    // DataLoader); override with -Drooms=<count>
+    private static final int ROOMS = Integer.getInteger("rooms", 8);
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("Usage: java BookingLoadTest.java <booking-url> <label> <concurrency>...");
+            System.exit(1);
+        }
+        String baseUrl = args[0];
+        String label = args[1];
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        String token = register(client, baseUrl);
+
+        System.out.printf("%-8s %7s %9s %8s %8s %8s %8s  %s%n",
+                "mode", "clients", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "status codes");
+        int round = 0;
+        for (String level : Arrays.copyOfRange(args, 2, args.length)) {
+            run(client, baseUrl, token, label, Integer.parseInt(level), round++);
+        }
+    }
+
+    private static void run(HttpClient client, String baseUrl, String token, String label,
+                            int concurrency, int round) throws InterruptedException {
+        long[] latencies = new long[concurrency];
+        Map<Integer, AtomicInteger> statuses = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(concurrency);
+
+        // Non-overlapping two-day stays per room so every request can actually succeed
+        LocalDate base = LocalDate.now().plusDays(1).plusYears(round * 60L);
+        try (var clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                int n = i;
+                clients.execute(() -> {
+                    LocalDate startDate = base.plusDays(2L * (n / ROOMS));
+                    String body = "{\"roomId\":" + (1 + n % ROOMS) + ",\"startDate\":\"" + startDate
+                            + "\",\"endDate\":\"" + startDate.plusDays(1) + "\"}";
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/booking"))
+                            .timeout(Duration.ofSeconds(120))
+                            .header("Content-Type", "application/json")
+                            .header("Authorization", "Bearer " + token)
+                            .POST(HttpRequest.BodyPublishers.ofString(body))
+                            .build();
+                    try {
+                        start.await();
+                        long began = System.nanoTime();
+                        int status;
+                        try {
+                            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        } catch (Exception e) {
+                            status = -1;
+                        }
+                        latencies[n] = System.nanoTime() - began;
+                        statuses.computeIfAbsent(status, s -> new AtomicInteger()).incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            long began = System.nanoTime();
+            start.countDown();
+            done.await();
+            double seconds = (System.nanoTime() - began) / 1e9;
+
+            Arrays.sort(latencies);
+            System.out.printf("%-8s %7d %9.1f %8d %8d %8d %8d  %s%n",
+                    label, concurrency, concurrency / seconds,
+                    percentile(latencies, 0.50), percentile(latencies, 0.95), percentile(latencies, 0.99),
+                    latencies[latencies.length - 1] / 1_000_000, new TreeMap<>(statuses));
+        }
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000;
+    }
+
+    private static String register(HttpClient client, String baseUrl) throws Exception {
+        String body = "{\"username\":\"load_" + UUID.randomUUID().toString().substring(0, 8)
+                + "\",\"password\":\"password123\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/user/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        String response = client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        Matcher matcher = TOKEN.matcher(response);
+        if (!matcher.find()) {
+            throw new IllegalStateException("Registration failed: " + response);
+        }
+        return matcher.group(1);
+    }
+}
@@ -0,0 +1,61 @@
+#!/bin/bash
+
+# Сравнение platform и virtual threads под нагрузкой на POST /api/booking
+# Использование: ./.scripts/bench-threads.sh [concurrency...]   (по умолчанию 1000 2500 5000 10000)
+#                MODES=virtual ./.scripts/bench-threads.sh 1000    (только один режим)
+#
+# Для каждого режима поднимает hotel-service и booking-service без Eureka на отдельных портах,
+# прогоняет BookingLoadTest и останавливает сервисы. В virtual-режиме JVM запускается с
+# -Djdk.tracePinnedThreads=short: число найденных пиннингов выводится после прогона.
+
+LEVELS=${@:-1000 2500 5000 10000}
+MODES=${MODES:-platform virtual}
+HOTEL_PORT=18082
+BOOKING_PORT=18081
+LOG_DIR=.logs/bench
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+mkdir -p "$LOG_DIR"
+
+if [ ! -f hotel-service/target/hotel-service-1.0.0-exec.jar ] || [ ! -f booking-service/target/booking-service-1.0.0-exec.jar ]; then
+    mvn -q clean install -DskipTests || exit 1
+fi
+
+wait_started() {
+    for _ in $(seq 90); do
+        grep -q "Started $2" "$1" && return 0
+        sleep 2
+    done
+    echo "$2 не запустился, см. $1" && return 1
+}
+
+for MODE in $MODES; do
+    VIRTUAL=false
+    JVM_OPTS=""
+    if [ "$MODE" = "virtual" ]; then
+        VIRTUAL=true
+        JVM_OPTS="-Djdk.tracePinnedThreads=short"
+    fi
+
+    VIRTUAL_THREADS=$VIRTUAL $JAVA $JVM_OPTS -jar hotel-service/target/hotel-service-1.0.0-exec.jar \
+        --server.port=$HOTEL_PORT --eureka.client.enabled=false \
+        --spring.jpa.show-sql=false --logging.level.com.booking=INFO \
+        > "$LOG_DIR/hotel-$MODE.log" 2>&1 &
+    HOTEL_PID=$!
+    VIRTUAL_THREADS=$VIRTUAL $JAVA $JVM_OPTS -jar booking-service/target/booking-service-1.0.0-exec.jar \
+        --server.port=$BOOKING_PORT --eureka.client.enabled=false \
+        --spring.cloud.discovery.client.simple.instances.hotel-service[0].uri=http://localhost:$HOTEL_PORT \
+        --spring.jpa.show-sql=false --logging.level.com.booking=INFO --logging.level.feign=INFO \
+        > "$LOG_DIR/booking-$MODE.log" 2>&1 &
+    BOOKING_PID=$!
+
+    if wait_started "$LOG_DIR/hotel-$MODE.log" HotelService && wait_started "$LOG_DIR/booking-$MODE.log" BookingService; then
+        $JAVA .scripts/BookingLoadTest.java http://localhost:$BOOKING_PORT $MODE $LEVELS
+        if [ "$MODE" = "virtual" ]; then
+            echo "pinned: hotel=$(grep -c 'onPinned\|pinned' "$LOG_DIR/hotel-$MODE.log")" \
+                 "booking=$(grep -c 'onPinned\|pinned' "$LOG_DIR/booking-$MODE.log")"
+        fi
+    fi
+
+    kill $BOOKING_PID $HOTEL_PID 2>/dev/null
+    wait $BOOKING_PID $HOTEL_PID 2>/dev/null
+done
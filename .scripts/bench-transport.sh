@@ -0,0 +1,74 @@
+#!/bin/bash
+
+# Сравнение транспортов HotelClient под нагрузкой на POST /api/booking
+# Использование: ./.scripts/bench-transport.sh [concurrency...]   (по умолчанию 250 500 1000 2000)
+#                TRANSPORTS=hc5 ./.scripts/bench-transport.sh 1000   (только один транспорт)
+#
+# Транспорты: urlconnection — прежний HttpURLConnection (Client.Default), hc5 — пул Apache
+# HttpClient 5 (по умолчанию), http2 — JDK HttpClient с HTTP/2 (профиль http2). Для каждого
+# поднимает hotel-service и booking-service без Eureka, прогоняет BookingLoadTest и выводит число
+# TCP-соединений к hotel-service, открытых за прогон (churn), и сокетов в TIME_WAIT.
+
+LEVELS=${@:-250 500 1000 2000}
+TRANSPORTS=${TRANSPORTS:-urlconnection hc5 http2}
+HOTEL_PORT=18082
+BOOKING_PORT=18081
+LOG_DIR=.logs/bench
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+mkdir -p "$LOG_DIR"
+
+if [ ! -f hotel-service/target/hotel-service-1.0.0-exec.jar ] || [ ! -f booking-service/target/booking-service-1.0.0-exec.jar ]; then
+    mvn -q clean install -DskipTests || exit 1
+fi
+
+wait_started() {
+    for _ in $(seq 90); do
+        grep -q "Started $2" "$1" && return 0
+        sleep 2
+    done
+    echo "$2 не запустился, см. $1" && return 1
+}
+
+# Порты клиентских сокетов booking-service -> hotel-service, которые видны сейчас
+hotel_client_ports() {
+    netstat -tan 2>/dev/null | awk -v port=":$HOTEL_PORT" '$5 ~ port"$" {print $4}' | sort -u
+}
+
+for TRANSPORT in $TRANSPORTS; do
+    BOOKING_OPTS=""
+    case "$TRANSPORT" in
+        urlconnection) BOOKING_OPTS="--spring.cloud.openfeign.httpclient.hc5.enabled=false" ;;
+        http2) BOOKING_OPTS="--spring.profiles.active=http2" ;;
+    esac
+
+    $JAVA -jar hotel-service/target/hotel-service-1.0.0-exec.jar \
+        --server.port=$HOTEL_PORT --eureka.client.enabled=false \
+        --spring.jpa.show-sql=false --logging.level.com.booking=INFO \
+        > "$LOG_DIR/hotel-$TRANSPORT.log" 2>&1 &
+    HOTEL_PID=$!
+    $JAVA -jar booking-service/target/booking-service-1.0.0-exec.jar \
+        --server.port=$BOOKING_PORT --eureka.client.enabled=false \
+        --spring.cloud.discovery.client.simple.instances.hotel-service[0].uri=http://localhost:$HOTEL_PORT \
+        --spring.jpa.show-sql=false --management.tracing.enabled=false $BOOKING_OPTS \
+        > "$LOG_DIR/booking-$TRANSPORT.log" 2>&1 &
+    BOOKING_PID=$!
+
+    if wait_started "$LOG_DIR/hotel-$TRANSPORT.log" HotelService && wait_started "$LOG_DIR/booking-$TRANSPORT.log" BookingService; then
+        SEEN=$(mktemp)
+        ( while kill -0 $BOOKING_PID 2>/dev/null; do hotel_client_ports >> "$SEEN"; sleep 0.2; done ) &
+        SAMPLER=$!
+
+        $JAVA .scripts/BookingLoadTest.java http://localhost:$BOOKING_PORT $TRANSPORT $LEVELS
+
+        kill $SAMPLER 2>/dev/null
+        wait $SAMPLER 2>/dev/null
+        echo "connections: opened=$(sort -u "$SEEN" | wc -l)" \
+             "time_wait=$(netstat -tan 2>/dev/null | grep ":$HOTEL_PORT " | grep -c TIME_WAIT)"
+        rm -f "$SEEN"
+    fi
+
+    kill $BOOKING_PID $HOTEL_PID 2>/dev/null
+    wait $BOOKING_PID $HOTEL_PID 2>/dev/null
+    # TIME_WAIT сокеты предыдущего прогона не должны попасть в следующий
+    sleep ${COOLDOWN:-60}
+done
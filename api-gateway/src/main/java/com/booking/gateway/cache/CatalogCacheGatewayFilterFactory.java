@@ -0,0 +1,178 @@
+package com.booking.gateway.cache;
+
+import com.booking.gateway.security.IdentityHeaders;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Caches authenticated GET responses of the hotel catalogue at the gateway ({@code CatalogCache=30s}
+ * on a route). A cached response is served while it is younger than the TTL and no newer catalogue
+ * version has been seen by {@link CatalogVersionFilter}; responses carry an ETag, and a matching
+ * {@code If-None-Match} is answered with 304 without a body. Entries are kept per role, since the
+ * services authorize by role.
+ */
+@Component
+public class CatalogCacheGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<CatalogCacheGatewayFilterFactory.Config> {
+
+    // Clients revalidate on every use; a 304 from the gateway costs no downstream call
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private record Entry(byte[] body, MediaType contentType, String etag, long version, long expiresAt) {
+
+        boolean isFresh(long currentVersion) {
+            return version >= currentVersion && System.nanoTime() - expiresAt < 0;
+        }
+    }
+
+    private final CatalogVersionFilter catalogVersion;
+    private final Cache<String, Entry> cache;
+
+    public CatalogCacheGatewayFilterFactory(CatalogVersionFilter catalogVersion,
+                                            @Value("${gateway.catalog-cache.max-size:1000}") long maxSize) {
+        super(Config.class);
+        this.catalogVersion = catalogVersion;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("ttl");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        long ttlNanos = config.getTtl().toNanos();
+        // Ahead of NettyWriteResponseFilter, which otherwise writes through the undecorated response
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            // Anonymous requests are rejected downstream and must not be answered from the cache
+            if (request.getMethod() != HttpMethod.GET || request.getHeaders().getFirst(IdentityHeaders.USER) == null) {
+                return chain.filter(exchange);
+            }
+
+            String key = request.getHeaders().getFirst(IdentityHeaders.ROLE) + " " + request.getURI().getRawPath()
+                    + "?" + request.getURI().getRawQuery();
+            Entry entry = cache.getIfPresent(key);
+            if (entry != null && entry.isFresh(catalogVersion.current())) {
+                return writeCached(exchange, entry);
+            }
+
+            CachingResponse response = new CachingResponse(exchange, key, ttlNanos);
+            return chain.filter(exchange.mutate().response(response).build());
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, Entry entry) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().setETag(entry.etag());
+        response.getHeaders().setCacheControl(CACHE_CONTROL);
+        if (notModified(exchange.getRequest(), entry.etag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(entry.contentType());
+        response.getHeaders().setContentLength(entry.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(entry.body())));
+    }
+
+    private static boolean notModified(ServerHttpRequest request, String etag) {
+        for (String candidate : request.getHeaders().getIfNoneMatch()) {
+            if (candidate.equals("*") || candidate.equals(etag) || candidate.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Buffers a successful downstream response, stores it and answers the client's
+     * {@code If-None-Match} the same way a cache hit would.
+     */
+    private class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+        private final String key;
+        private final long ttlNanos;
+
+        CachingResponse(ServerWebExchange exchange, String key, long ttlNanos) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+            this.key = key;
+            this.ttlNanos = ttlNanos;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (getStatusCode() != HttpStatus.OK) {
+                return super.writeWith(body);
+            }
+
+            return DataBufferUtils.join(body)
+                    .map(buffer -> {
+                        byte[] bytes = new byte[buffer.readableByteCount()];
+                        buffer.read(bytes);
+                        DataBufferUtils.release(buffer);
+                        return bytes;
+                    })
+                    .defaultIfEmpty(new byte[0])
+                    .flatMap(this::store);
+        }
+
+        private Mono<Void> store(byte[] bytes) {
+            HttpHeaders headers = getHeaders();
+            String etag = "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"";
+            long version = catalogVersion.observe(headers);
+            cache.put(key, new Entry(bytes, headers.getContentType(), etag, version, System.nanoTime() + ttlNanos));
+
+            headers.setETag(etag);
+            headers.setCacheControl(CACHE_CONTROL);
+            if (notModified(exchange.getRequest(), etag)) {
+                setStatusCode(HttpStatus.NOT_MODIFIED);
+                headers.remove(HttpHeaders.CONTENT_LENGTH);
+                headers.remove(HttpHeaders.TRANSFER_ENCODING);
+                return getDelegate().setComplete();
+            }
+            return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+        }
+    }
+
+    public static class Config {
+
+        private Duration ttl = Duration.ofSeconds(30);
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+    }
+}
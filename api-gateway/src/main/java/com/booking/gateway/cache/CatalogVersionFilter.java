@@ -0,0 +1,62 @@
+package com.booking.gateway.cache;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the newest catalogue version hotel-service reported in {@link #HEADER}. Every response
+ * that passes the gateway counts, so a hotel or room created through it invalidates the cached
+ * catalogue before the creation response reaches the client.
+ */
+@Component
+public class CatalogVersionFilter implements GlobalFilter, Ordered {
+
+    public static final String HEADER = "X-Catalog-Version";
+
+    private final AtomicLong version = new AtomicLong();
+
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * Records the version reported in the response headers and returns it; responses without one
+     * get the version known now.
+     */
+    public long observe(HttpHeaders headers) {
+        String reported = headers.getFirst(HEADER);
+        if (reported != null) {
+            try {
+                long parsed = Long.parseLong(reported);
+                version.accumulateAndGet(parsed, Math::max);
+                return parsed;
+            } catch (NumberFormatException ignored) {
+                // Not from hotel-service
+            }
+        }
+        return current();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.beforeCommit(() -> {
+            observe(response.getHeaders());
+            return Mono.empty();
+        });
+        return chain.filter(exchange);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+}
@@ -0,0 +1,52 @@
+package com.booking.gateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process token buckets. Each bucket is a single {@link AtomicLong} holding the theoretical
+ * arrival time of the next request (GCRA): admitting a request is one compare-and-set, without
+ * locks or a refill timer. Buckets idle for longer than {@code idleTimeout} are dropped; a dropped
+ * bucket is full again, which is what it would be by then anyway.
+ */
+public class LocalTokenBucketStore implements TokenBucketStore {
+
+    private static final Mono<Long> ADMITTED = Mono.just(0L);
+
+    private final Cache<String, AtomicLong> buckets;
+
+    public LocalTokenBucketStore(long maxBuckets, Duration idleTimeout) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    @Override
+    public Mono<Long> tryAcquire(String key, RateLimitProperties.Limit limit) {
+        long wait = acquire(key, limit, System.nanoTime());
+        return wait == 0 ? ADMITTED : Mono.just(wait);
+    }
+
+    long acquire(String key, RateLimitProperties.Limit limit, long now) {
+        long interval = (long) (1_000_000_000L / limit.getReplenishRate());
+        long tolerance = interval * limit.getBurstCapacity();
+        AtomicLong arrival = buckets.get(key, k -> new AtomicLong(now));
+
+        while (true) {
+            long current = arrival.get();
+            long next = Math.max(current, now) + interval;
+            long excess = next - now - tolerance;
+            if (excess > 0) {
+                return excess;
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
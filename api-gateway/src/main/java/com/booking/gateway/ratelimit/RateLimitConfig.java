@@ -0,0 +1,16 @@
+package com.booking.gateway.ratelimit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RateLimitConfig {
+
+    // Replaced by any other TokenBucketStore bean, e.g. one shared by all gateway instances
+    @Bean
+    @ConditionalOnMissingBean(TokenBucketStore.class)
+    public TokenBucketStore localTokenBucketStore(RateLimitProperties properties) {
+        return new LocalTokenBucketStore(properties.getMaxBuckets(), properties.getIdleTimeout());
+    }
+}
@@ -0,0 +1,77 @@
+package com.booking.gateway.ratelimit;
+
+import com.booking.gateway.security.IdentityHeaders;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admits requests through a token bucket per route and user, so a client hammering one route
+ * spends only that route's bucket: a scraper of {@code /api/rooms} keeps its bookings going and
+ * its rejected requests never reach hotel-service. Rejections are 429 with {@code Retry-After}.
+ * Authenticated users are identified by the verified JWT subject, anonymous ones by address.
+ */
+@Component
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final RateLimitProperties properties;
+    private final TokenBucketStore store;
+
+    public RateLimitFilter(RateLimitProperties properties, TokenBucketStore store) {
+        this.properties = properties;
+        this.store = store;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!properties.isEnabled() || route == null) {
+            return chain.filter(exchange);
+        }
+
+        String client = client(exchange);
+        return store.tryAcquire(route.getId() + ":" + client, properties.limitFor(route.getId()))
+                .flatMap(wait -> {
+                    if (wait == 0) {
+                        return chain.filter(exchange);
+                    }
+                    log.debug("Rate limit exceeded: route={}, client={}", route.getId(), client);
+                    ServerHttpResponse response = exchange.getResponse();
+                    response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+                    // Whole seconds, rounded up: retrying earlier would be rejected again
+                    long retryAfter = TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1);
+                    response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+                    return response.setComplete();
+                });
+    }
+
+    private static String client(ServerWebExchange exchange) {
+        String user = exchange.getRequest().getHeaders().getFirst(IdentityHeaders.USER);
+        if (user != null) {
+            return "user:" + user;
+        }
+        InetSocketAddress address = exchange.getRequest().getRemoteAddress();
+        return "address:" + (address != null ? address.getHostString() : "unknown");
+    }
+
+    @Override
+    public int getOrder() {
+        // After JwtAuthenticationFilter, which sets the verified user, and before any downstream work
+        return Ordered.HIGHEST_PRECEDENCE + 2;
+    }
+}
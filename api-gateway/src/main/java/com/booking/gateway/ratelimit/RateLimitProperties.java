@@ -0,0 +1,114 @@
+package com.booking.gateway.ratelimit;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Token buckets of {@link RateLimitFilter}: one bucket per route and user, sized by the route's
+ * entry in {@code routes} or by {@code default-limit}. A zero or negative limit fails startup
+ * instead of rejecting every request.
+ */
+@Component
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+@Validated
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    @Valid
+    private Limit defaultLimit = new Limit();
+
+    /**
+     * Buckets idle for longer are dropped; keep it above burst-capacity / replenish-rate.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(1);
+
+    private long maxBuckets = 100_000;
+
+    /**
+     * Limits of individual routes, keyed by route id.
+     */
+    private Map<String, @Valid Limit> routes = new HashMap<>();
+
+    public Limit limitFor(String routeId) {
+        return routes.getOrDefault(routeId, defaultLimit);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Limit getDefaultLimit() {
+        return defaultLimit;
+    }
+
+    public void setDefaultLimit(Limit defaultLimit) {
+        this.defaultLimit = defaultLimit;
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    public long getMaxBuckets() {
+        return maxBuckets;
+    }
+
+    public void setMaxBuckets(long maxBuckets) {
+        this.maxBuckets = maxBuckets;
+    }
+
+    public Map<String, Limit> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(Map<String, Limit> routes) {
+        this.routes = routes;
+    }
+
+    public static class Limit {
+
+        /**
+         * Requests per second a user can sustain.
+         */
+        @Positive
+        private double replenishRate = 20;
+
+        /**
+         * Requests a user can send in a burst after being idle.
+         */
+        @Positive
+        private int burstCapacity = 40;
+
+        public double getReplenishRate() {
+            return replenishRate;
+        }
+
+        public void setReplenishRate(double replenishRate) {
+            this.replenishRate = replenishRate;
+        }
+
+        public int getBurstCapacity() {
+            return burstCapacity;
+        }
+
+        public void setBurstCapacity(int burstCapacity) {
+            this.burstCapacity = burstCapacity;
+        }
+    }
+}
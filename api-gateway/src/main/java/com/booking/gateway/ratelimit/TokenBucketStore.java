@@ -0,0 +1,18 @@
+package com.booking.gateway.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Keeps the token buckets of {@link RateLimitFilter}. {@link LocalTokenBucketStore} limits each
+ * gateway instance on its own; a bean backed by a shared store (Redis, Hazelcast) replaces it when
+ * the limits must hold across instances.
+ */
+public interface TokenBucketStore {
+
+    /**
+     * Takes one token from the bucket.
+     *
+     * @return 0 when the request is admitted, otherwise nanoseconds until a token is available
+     */
+    Mono<Long> tryAcquire(String key, RateLimitProperties.Limit limit);
+}
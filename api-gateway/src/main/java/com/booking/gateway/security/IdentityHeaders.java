@@ -0,0 +1,56 @@
+package com.booking.gateway.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Signs the identity headers forwarded to booking-service and hotel-service with
+ * {@code security.identity.secret}. The services check the HMAC instead of the JWT.
+ */
+@Component
+public class IdentityHeaders {
+
+    public static final String USER = "X-Auth-User";
+    public static final String ROLE = "X-Auth-Role";
+    public static final String EXPIRES = "X-Auth-Expires";
+    public static final String SIGNATURE = "X-Auth-Signature";
+
+    public static final List<String> NAMES = List.of(USER, ROLE, EXPIRES, SIGNATURE);
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+
+    public IdentityHeaders(@Value("${security.identity.secret}") String secret) {
+        this.key = new SecretKeySpec(Base64.getDecoder().decode(secret), ALGORITHM);
+    }
+
+    public void sign(HttpHeaders headers, String username, String role, Instant expiresAt) {
+        String expires = String.valueOf(expiresAt.getEpochSecond());
+        headers.set(USER, username);
+        headers.set(ROLE, role);
+        headers.set(EXPIRES, expires);
+        headers.set(SIGNATURE, signature(username, role, expires));
+    }
+
+    private String signature(String username, String role, String expires) {
+        try {
+            // Mac instances are not thread-safe; creating one from the prepared key is cheap
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            byte[] digest = mac.doFinal((username + "\n" + role + "\n" + expires).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot compute identity signature", e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.booking.gateway.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Verifies the client's JWT once at the edge and replaces it with signed identity headers for the
+ * downstream services. Identity headers sent by clients are always dropped; requests without a
+ * token pass through anonymously and invalid or expired tokens are rejected with 401.
+ */
+@Component
+public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
+    private final JwtParser parser;
+    private final IdentityHeaders identityHeaders;
+
+    public JwtAuthenticationFilter(@Value("${jwt.secret}") String secret, IdentityHeaders identityHeaders) {
+        this.parser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)))
+                .build();
+        this.identityHeaders = identityHeaders;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+        Claims claims = null;
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            try {
+                claims = parser.parseSignedClaims(authHeader.substring(7)).getPayload();
+            } catch (JwtException | IllegalArgumentException e) {
+                log.debug("Rejecting request with invalid token: {}", e.getMessage());
+            }
+            if (claims == null || claims.getSubject() == null || claims.getExpiration() == null) {
+                exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+                return exchange.getResponse().setComplete();
+            }
+        }
+
+        Claims identity = claims;
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .headers(headers -> {
+                    IdentityHeaders.NAMES.forEach(headers::remove);
+                    if (identity != null) {
+                        String role = identity.get("authorities", String.class);
+                        identityHeaders.sign(headers, identity.getSubject(), role != null ? role : "",
+                                identity.getExpiration().toInstant());
+                        // Services trust the signed headers; the token itself is no longer needed
+                        headers.remove(HttpHeaders.AUTHORIZATION);
+                    }
+                })
+                .build();
+        return chain.filter(exchange.mutate().request(request).build());
+    }
+
+    @Override
+    public int getOrder() {
+        // Before routing, so load-balanced requests already carry the identity headers
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,175 @@
+package com.booking.gateway.cache;
+
+import com.booking.gateway.security.IdentityHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogCacheGatewayFilterFactoryTest {
+
+    private static final String HOTELS = "[{\"id\":1,\"name\":\"Grand Hotel\"}]";
+
+    private CatalogVersionFilter catalogVersion;
+    private GatewayFilter filter;
+    private AtomicInteger downstream;
+    private AtomicLong serviceVersion;
+    private GatewayFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        catalogVersion = new CatalogVersionFilter();
+        CatalogCacheGatewayFilterFactory.Config config = new CatalogCacheGatewayFilterFactory.Config();
+        config.setTtl(Duration.ofMinutes(1));
+        filter = new CatalogCacheGatewayFilterFactory(catalogVersion, 100).apply(config);
+
+        downstream = new AtomicInteger();
+        serviceVersion = new AtomicLong(100);
+        chain = exchange -> {
+            downstream.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            response.getHeaders().set(CatalogVersionFilter.HEADER, String.valueOf(serviceVersion.get()));
+            byte[] body = HOTELS.getBytes(StandardCharsets.UTF_8);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        };
+    }
+
+    @Test
+    void filter_RepeatedRequest_ShouldServeCachedBodyWithSameETag() {
+        // Arrange
+        MockServerWebExchange first = exchange("USER", null);
+        filter.filter(first, chain).block();
+
+        // Act
+        MockServerWebExchange second = exchange("USER", null);
+        filter.filter(second, chain).block();
+
+        // Assert
+        assertEquals(1, downstream.get());
+        assertEquals(HttpStatus.OK, second.getResponse().getStatusCode());
+        assertEquals(HOTELS, second.getResponse().getBodyAsString().block());
+        assertNotNull(first.getResponse().getHeaders().getETag());
+        assertEquals(first.getResponse().getHeaders().getETag(), second.getResponse().getHeaders().getETag());
+    }
+
+    @Test
+    void filter_MatchingIfNoneMatch_ShouldRespond304WithoutBody() {
+        // Arrange
+        MockServerWebExchange first = exchange("USER", null);
+        filter.filter(first, chain).block();
+        String etag = first.getResponse().getHeaders().getETag();
+
+        // Act
+        MockServerWebExchange revalidation = exchange("USER", etag);
+        filter.filter(revalidation, chain).block();
+
+        // Assert
+        assertEquals(1, downstream.get());
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidation.getResponse().getStatusCode());
+        assertEquals(etag, revalidation.getResponse().getHeaders().getETag());
+        assertEquals("", revalidation.getResponse().getBodyAsString().defaultIfEmpty("").block());
+    }
+
+    @Test
+    void filter_MissWithMatchingIfNoneMatch_ShouldRespond304() {
+        // Arrange
+        MockServerWebExchange first = exchange("USER", null);
+        filter.filter(first, chain).block();
+        String etag = first.getResponse().getHeaders().getETag();
+        // Another client with the same body cached, after the gateway entry went stale
+        serviceVersion.incrementAndGet();
+        catalogVersion.observe(versionHeaders(serviceVersion.get()));
+
+        // Act
+        MockServerWebExchange revalidation = exchange("USER", etag);
+        filter.filter(revalidation, chain).block();
+
+        // Assert
+        assertEquals(2, downstream.get());
+        assertEquals(HttpStatus.NOT_MODIFIED, revalidation.getResponse().getStatusCode());
+    }
+
+    @Test
+    void filter_AfterNewerVersionSeen_ShouldFetchAgain() {
+        // Arrange
+        filter.filter(exchange("USER", null), chain).block();
+        serviceVersion.incrementAndGet();
+        // e.g. the 201 of POST /api/hotels passing through the gateway
+        catalogVersion.observe(versionHeaders(serviceVersion.get()));
+
+        // Act
+        filter.filter(exchange("USER", null), chain).block();
+        filter.filter(exchange("USER", null), chain).block();
+
+        // Assert
+        assertEquals(2, downstream.get());
+    }
+
+    @Test
+    void filter_OlderVersionSeen_ShouldKeepServingCache() {
+        // Arrange
+        filter.filter(exchange("USER", null), chain).block();
+        catalogVersion.observe(versionHeaders(serviceVersion.get() - 1));
+
+        // Act
+        filter.filter(exchange("USER", null), chain).block();
+
+        // Assert
+        assertEquals(1, downstream.get());
+    }
+
+    @Test
+    void filter_DifferentRoles_ShouldUseSeparateEntries() {
+        // Act
+        filter.filter(exchange("USER", null), chain).block();
+        filter.filter(exchange("ADMIN", null), chain).block();
+        filter.filter(exchange("USER", null), chain).block();
+        filter.filter(exchange("ADMIN", null), chain).block();
+
+        // Assert
+        assertEquals(2, downstream.get());
+    }
+
+    @Test
+    void filter_AnonymousRequest_ShouldNotBeCached() {
+        // Act
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/hotels")), chain).block();
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/hotels")), chain).block();
+        filter.filter(exchange("USER", null), chain).block();
+
+        // Assert
+        assertEquals(3, downstream.get());
+    }
+
+    private static MockServerWebExchange exchange(String role, String ifNoneMatch) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/hotels")
+                .header(IdentityHeaders.USER, "john")
+                .header(IdentityHeaders.ROLE, role);
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return MockServerWebExchange.from(request);
+    }
+
+    private static HttpHeaders versionHeaders(long version) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(CatalogVersionFilter.HEADER, String.valueOf(version));
+        return headers;
+    }
+}
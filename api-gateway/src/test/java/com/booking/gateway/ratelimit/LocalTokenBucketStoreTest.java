@@ -0,0 +1,85 @@
+package com.booking.gateway.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalTokenBucketStoreTest {
+
+    // 10 requests/s: one token every 100 ms, up to 5 at once
+    private static final long INTERVAL = 100_000_000L;
+    private static final long NOW = 1_000_000_000_000L;
+
+    private LocalTokenBucketStore store;
+    private RateLimitProperties.Limit limit;
+
+    @BeforeEach
+    void setUp() {
+        store = new LocalTokenBucketStore(1000, Duration.ofMinutes(1));
+        limit = new RateLimitProperties.Limit();
+        limit.setReplenishRate(10);
+        limit.setBurstCapacity(5);
+    }
+
+    @Test
+    void acquire_Burst_ShouldAdmitExactlyBurstCapacity() {
+        // Act & Assert
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, store.acquire("route:user:john", limit, NOW), "request " + (i + 1));
+        }
+        assertTrue(store.acquire("route:user:john", limit, NOW) > 0);
+    }
+
+    @Test
+    void acquire_OverBurst_ShouldReturnTimeUntilNextToken() {
+        // Arrange
+        exhaust("route:user:john", NOW);
+
+        // Act & Assert
+        assertEquals(INTERVAL, store.acquire("route:user:john", limit, NOW));
+        assertEquals(INTERVAL / 4, store.acquire("route:user:john", limit, NOW + INTERVAL * 3 / 4));
+    }
+
+    @Test
+    void acquire_AfterInterval_ShouldAdmitOneMoreRequest() {
+        // Arrange
+        exhaust("route:user:john", NOW);
+
+        // Act & Assert
+        assertEquals(0, store.acquire("route:user:john", limit, NOW + INTERVAL));
+        assertEquals(INTERVAL, store.acquire("route:user:john", limit, NOW + INTERVAL));
+    }
+
+    @Test
+    void acquire_AfterIdleTime_ShouldRefillOnlyUpToBurstCapacity() {
+        // Arrange
+        exhaust("route:user:john", NOW);
+        long later = NOW + INTERVAL * 100;
+
+        // Act & Assert
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, store.acquire("route:user:john", limit, later), "request " + (i + 1));
+        }
+        assertEquals(INTERVAL, store.acquire("route:user:john", limit, later));
+    }
+
+    @Test
+    void acquire_OtherKeys_ShouldUseSeparateBuckets() {
+        // Arrange
+        exhaust("room-catalogue:user:john", NOW);
+
+        // Act & Assert
+        assertEquals(0, store.acquire("booking-service:user:john", limit, NOW));
+        assertEquals(0, store.acquire("room-catalogue:user:jane", limit, NOW));
+        assertTrue(store.acquire("room-catalogue:user:john", limit, NOW) > 0);
+    }
+
+    private void exhaust(String key, long now) {
+        for (int i = 0; i < limit.getBurstCapacity(); i++) {
+            assertEquals(0, store.acquire(key, limit, now));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.booking.gateway.ratelimit;
+
+import com.booking.gateway.security.IdentityHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private RateLimitProperties properties;
+    private AtomicInteger routed;
+    private GatewayFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        RateLimitProperties.Limit catalogue = new RateLimitProperties.Limit();
+        catalogue.setReplenishRate(0.01);
+        catalogue.setBurstCapacity(2);
+        properties.getRoutes().put("room-catalogue", catalogue);
+        properties.getDefaultLimit().setReplenishRate(0.01);
+        properties.getDefaultLimit().setBurstCapacity(2);
+
+        routed = new AtomicInteger();
+        chain = exchange -> {
+            routed.incrementAndGet();
+            return Mono.empty();
+        };
+    }
+
+    @Test
+    void filter_OverLimit_ShouldRespond429WithRetryAfterRoundedUp() {
+        assertRetryAfter(1L, "1");
+        assertRetryAfter(999_999_999L, "1");
+        assertRetryAfter(1_000_000_000L, "1");
+        assertRetryAfter(1_000_000_001L, "2");
+        assertRetryAfter(2_500_000_000L, "3");
+    }
+
+    @Test
+    void filter_AuthenticatedUser_ShouldUseRouteAndUserBucket() {
+        // Arrange
+        List<String> keys = new ArrayList<>();
+        RateLimitFilter filter = new RateLimitFilter(properties, (key, limit) -> {
+            keys.add(key);
+            return Mono.just(0L);
+        });
+
+        // Act
+        filter.filter(exchange("room-catalogue", MockServerHttpRequest.get("/api/rooms")
+                .header(IdentityHeaders.USER, "john")), chain).block();
+
+        // Assert
+        assertEquals(List.of("room-catalogue:user:john"), keys);
+        assertEquals(1, routed.get());
+    }
+
+    @Test
+    void filter_AnonymousRequest_ShouldUseRemoteAddressBucket() {
+        // Arrange
+        List<String> keys = new ArrayList<>();
+        RateLimitFilter filter = new RateLimitFilter(properties, (key, limit) -> {
+            keys.add(key);
+            return Mono.just(0L);
+        });
+
+        // Act
+        filter.filter(exchange("booking-service", MockServerHttpRequest.post("/api/user/auth")
+                .remoteAddress(new InetSocketAddress("10.0.0.7", 51234))), chain).block();
+
+        // Assert
+        assertEquals(List.of("booking-service:address:10.0.0.7"), keys);
+    }
+
+    @Test
+    void filter_ExhaustedBucket_ShouldNotAffectOtherRoutesOrUsers() {
+        // Arrange
+        RateLimitFilter filter = new RateLimitFilter(properties, new LocalTokenBucketStore(1000, Duration.ofMinutes(1)));
+        for (int i = 0; i < 2; i++) {
+            filter.filter(userExchange("room-catalogue", "john"), chain).block();
+        }
+        MockServerWebExchange rejected = userExchange("room-catalogue", "john");
+
+        // Act
+        filter.filter(rejected, chain).block();
+        filter.filter(userExchange("booking-service", "john"), chain).block();
+        filter.filter(userExchange("room-catalogue", "jane"), chain).block();
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, rejected.getResponse().getStatusCode());
+        assertEquals(4, routed.get());
+    }
+
+    @Test
+    void filter_Disabled_ShouldRouteWithoutBucket() {
+        // Arrange
+        properties.setEnabled(false);
+        RateLimitFilter filter = new RateLimitFilter(properties, (key, limit) -> fail("no bucket expected"));
+
+        // Act
+        filter.filter(userExchange("room-catalogue", "john"), chain).block();
+
+        // Assert
+        assertEquals(1, routed.get());
+    }
+
+    private void assertRetryAfter(long wait, String expected) {
+        RateLimitFilter filter = new RateLimitFilter(properties, (key, limit) -> Mono.just(wait));
+        MockServerWebExchange exchange = userExchange("room-catalogue", "john");
+
+        filter.filter(exchange, chain).block();
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exchange.getResponse().getStatusCode());
+        assertEquals(expected, exchange.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER), "wait " + wait);
+        assertEquals(0, routed.get());
+    }
+
+    private static MockServerWebExchange userExchange(String routeId, String user) {
+        return exchange(routeId, MockServerHttpRequest.get("/api/rooms").header(IdentityHeaders.USER, user));
+    }
+
+    private static MockServerWebExchange exchange(String routeId, MockServerHttpRequest.BaseBuilder<?> request) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+                .id(routeId)
+                .uri(URI.create("lb://service"))
+                .predicate(e -> true)
+                .build());
+        return exchange;
+    }
+}
@@ -0,0 +1,64 @@
+package com.booking.gateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitPropertiesTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(PropertiesConfig.class);
+
+    @Test
+    void bind_WithPositiveLimits_ShouldStart() {
+        contextRunner
+                .withPropertyValues(
+                        "gateway.rate-limit.default-limit.replenish-rate=0.5",
+                        "gateway.rate-limit.routes.room-catalogue.burst-capacity=20")
+                .run(context -> {
+                    // Assert
+                    assertNull(context.getStartupFailure());
+                    RateLimitProperties properties = context.getBean(RateLimitProperties.class);
+                    assertEquals(0.5, properties.getDefaultLimit().getReplenishRate());
+                    assertEquals(20, properties.limitFor("room-catalogue").getBurstCapacity());
+                });
+    }
+
+    @Test
+    void bind_WithZeroDefaultRate_ShouldFailStartup() {
+        contextRunner
+                .withPropertyValues("gateway.rate-limit.default-limit.replenish-rate=0")
+                .run(context -> {
+                    // Assert
+                    assertNotNull(context.getStartupFailure());
+                    assertTrue(rootMessage(context.getStartupFailure()).contains("defaultLimit.replenishRate"));
+                });
+    }
+
+    @Test
+    void bind_WithNegativeRouteBurst_ShouldFailStartup() {
+        contextRunner
+                .withPropertyValues("gateway.rate-limit.routes.hotel-catalogue.burst-capacity=-1")
+                .run(context -> {
+                    // Assert
+                    assertNotNull(context.getStartupFailure());
+                    assertTrue(rootMessage(context.getStartupFailure()).contains("burstCapacity"));
+                });
+    }
+
+    private static String rootMessage(Throwable failure) {
+        Throwable cause = failure;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return String.valueOf(cause.getMessage());
+    }
+
+    @Configuration
+    @EnableConfigurationProperties(RateLimitProperties.class)
+    static class PropertiesConfig {
+    }
+}
@@ -0,0 +1,47 @@
+package com.booking.gateway.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdentityHeadersTest {
+
+    static final String SECRET = "4j5FZ0TrZBjGBRAo48yK9wBVkV1FlGOd5dMh74VL7Ps=";
+
+    // Shared with the IdentityHeadersTest of booking-service and hotel-service, which check that
+    // their verify() accepts exactly this signature: the modules cannot call each other's code
+    static final long EXPIRES = 4102444800L;
+    static final String SIGNATURE = "lgQpMRLmLZX5c2BuaB6nsmYP0gZzUKccmwOuIPUN2Bg";
+
+    @Test
+    void sign_ShouldProduceSignatureTheServicesVerify() {
+        // Arrange
+        IdentityHeaders identityHeaders = new IdentityHeaders(SECRET);
+        HttpHeaders headers = new HttpHeaders();
+
+        // Act
+        identityHeaders.sign(headers, "john", "ROLE_USER", Instant.ofEpochSecond(EXPIRES));
+
+        // Assert
+        assertEquals("john", headers.getFirst(IdentityHeaders.USER));
+        assertEquals("ROLE_USER", headers.getFirst(IdentityHeaders.ROLE));
+        assertEquals(String.valueOf(EXPIRES), headers.getFirst(IdentityHeaders.EXPIRES));
+        assertEquals(SIGNATURE, headers.getFirst(IdentityHeaders.SIGNATURE));
+    }
+
+    @Test
+    void sign_WithOtherSecret_ShouldProduceOtherSignature() {
+        // Arrange
+        IdentityHeaders other = new IdentityHeaders("3VfMGQiFx/8C3nU0dJr3ZfBrcYbKW9PC8d3v0l2bFh0=");
+        HttpHeaders headers = new HttpHeaders();
+
+        // Act
+        other.sign(headers, "john", "ROLE_USER", Instant.ofEpochSecond(EXPIRES));
+
+        // Assert
+        assertNotEquals(SIGNATURE, headers.getFirst(IdentityHeaders.SIGNATURE));
+    }
+}
@@ -0,0 +1,140 @@
+package com.booking.gateway.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import javax.crypto.SecretKey;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String JWT_SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+    private static final SecretKey KEY = Keys.hmacShaKeyFor(Decoders.BASE64.decode(JWT_SECRET));
+
+    private JwtAuthenticationFilter filter;
+    private AtomicReference<ServerWebExchange> forwarded;
+    private GatewayFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        filter = new JwtAuthenticationFilter(JWT_SECRET, new IdentityHeaders(IdentityHeadersTest.SECRET));
+        forwarded = new AtomicReference<>();
+        chain = exchange -> {
+            forwarded.set(exchange);
+            return Mono.empty();
+        };
+    }
+
+    @Test
+    void filter_AnonymousWithForgedIdentity_ShouldStripIdentityHeaders() {
+        // Arrange
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/hotels")
+                .header(IdentityHeaders.USER, "admin")
+                .header(IdentityHeaders.ROLE, "ROLE_ADMIN")
+                .header(IdentityHeaders.EXPIRES, String.valueOf(IdentityHeadersTest.EXPIRES))
+                .header(IdentityHeaders.SIGNATURE, "forged"));
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        HttpHeaders headers = forwarded.get().getRequest().getHeaders();
+        IdentityHeaders.NAMES.forEach(name -> assertFalse(headers.containsKey(name), name));
+    }
+
+    @Test
+    void filter_WithValidToken_ShouldForwardSignedIdentityInsteadOfToken() {
+        // Arrange
+        Instant expiresAt = Instant.ofEpochSecond(IdentityHeadersTest.EXPIRES);
+        String token = Jwts.builder()
+                .subject("john")
+                .claim("authorities", "ROLE_USER")
+                .expiration(Date.from(expiresAt))
+                .signWith(KEY)
+                .compact();
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/bookings")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .header(IdentityHeaders.USER, "admin")
+                .header(IdentityHeaders.ROLE, "ROLE_ADMIN"));
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        HttpHeaders headers = forwarded.get().getRequest().getHeaders();
+        assertFalse(headers.containsKey(HttpHeaders.AUTHORIZATION));
+        assertEquals(1, headers.get(IdentityHeaders.USER).size());
+        assertEquals("john", headers.getFirst(IdentityHeaders.USER));
+        assertEquals("ROLE_USER", headers.getFirst(IdentityHeaders.ROLE));
+        assertEquals(String.valueOf(IdentityHeadersTest.EXPIRES), headers.getFirst(IdentityHeaders.EXPIRES));
+        assertEquals(IdentityHeadersTest.SIGNATURE, headers.getFirst(IdentityHeaders.SIGNATURE));
+    }
+
+    @Test
+    void filter_WithTokenOfOtherKey_ShouldRespondUnauthorized() {
+        // Arrange
+        String token = Jwts.builder()
+                .subject("john")
+                .expiration(Date.from(Instant.now().plusSeconds(3600)))
+                .signWith(Keys.hmacShaKeyFor(new byte[32]))
+                .compact();
+
+        // Act & Assert
+        assertUnauthorized("Bearer " + token);
+    }
+
+    @Test
+    void filter_WithExpiredToken_ShouldRespondUnauthorized() {
+        // Arrange
+        String token = Jwts.builder()
+                .subject("john")
+                .expiration(Date.from(Instant.now().minusSeconds(60)))
+                .signWith(KEY)
+                .compact();
+
+        // Act & Assert
+        assertUnauthorized("Bearer " + token);
+    }
+
+    @Test
+    void filter_WithTokenWithoutSubject_ShouldRespondUnauthorized() {
+        // Arrange
+        String token = Jwts.builder()
+                .claim("authorities", "ROLE_ADMIN")
+                .expiration(Date.from(Instant.now().plusSeconds(3600)))
+                .signWith(KEY)
+                .compact();
+
+        // Act & Assert
+        assertUnauthorized("Bearer " + token);
+    }
+
+    @Test
+    void filter_WithMalformedToken_ShouldRespondUnauthorized() {
+        assertUnauthorized("Bearer not-a-jwt");
+    }
+
+    private void assertUnauthorized(String authorization) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/bookings")
+                .header(HttpHeaders.AUTHORIZATION, authorization));
+
+        filter.filter(exchange, chain).block();
+
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+        assertNull(forwarded.get(), "request must not be routed");
+    }
+}
@@ -0,0 +1,112 @@
+package com.booking.benchmarks;
+
+import com.booking.hotel.dto.ConfirmAvailabilityRequest;
+import com.booking.hotel.dto.ConfirmAvailabilityResponse;
+import com.booking.hotel.dto.HotelStatisticsDTO;
+import com.booking.hotel.dto.ReleaseReservationRequest;
+import com.booking.hotel.dto.RoomDTO;
+import com.booking.hotel.service.HotelService;
+import com.booking.hotel.service.RoomReservationService;
+import com.booking.hotel.service.RoomService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HotelServiceBenchmark {
+
+    // Requests land on a random room and stay within the next year, like real traffic
+    private static final int BOOKING_WINDOW_DAYS = 365;
+
+    @Benchmark
+    public ConfirmAvailabilityResponse confirmAvailability(HotelServiceState hotel, Confirmation confirmation) {
+        confirmation.response = confirmation.reservationService.confirmAvailability(
+                confirmation.roomId, confirmation.request);
+        return confirmation.response;
+    }
+
+    @Benchmark
+    public List<RoomDTO> getRecommendedRooms(HotelServiceState hotel, Dates dates) {
+        return hotel.getBean(RoomService.class).getRecommendedRooms(
+                dates.hotelId, dates.startDate, dates.startDate.plusDays(2));
+    }
+
+    @Benchmark
+    public List<HotelStatisticsDTO> getAllHotelStatistics(HotelServiceState hotel) {
+        return hotel.getBean(HotelService.class).getAllHotelStatistics();
+    }
+
+    @State(Scope.Thread)
+    public static class Dates {
+        Long hotelId;
+        LocalDate startDate;
+
+        @Setup(Level.Invocation)
+        public void next(HotelServiceState hotel) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            hotelId = hotel.hotelIds.get(random.nextInt(hotel.hotelIds.size()));
+            startDate = LocalDate.now().plusDays(1 + random.nextInt(BOOKING_WINDOW_DAYS));
+        }
+    }
+
+    // Each accepted reservation is released after the invocation (outside the measured time),
+    // so the occupancy the benchmark sees does not drift as iterations pile up
+    @State(Scope.Thread)
+    public static class Confirmation {
+        private static final AtomicLong BOOKING_IDS = new AtomicLong(1_000_000_000L);
+
+        RoomReservationService reservationService;
+        Long roomId;
+        ConfirmAvailabilityRequest request;
+        ConfirmAvailabilityResponse response;
+
+        @Setup(Level.Trial)
+        public void init(HotelServiceState hotel) {
+            reservationService = hotel.getBean(RoomReservationService.class);
+        }
+
+        @Setup(Level.Invocation)
+        public void next(HotelServiceState hotel) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long bookingId = BOOKING_IDS.incrementAndGet();
+            LocalDate startDate = LocalDate.now().plusDays(1 + random.nextInt(BOOKING_WINDOW_DAYS));
+            roomId = hotel.availableRoomIds[random.nextInt(hotel.availableRoomIds.length)];
+            request = ConfirmAvailabilityRequest.builder()
+                    .requestId("bench-" + bookingId)
+                    .bookingId(bookingId)
+                    .startDate(startDate)
+                    .endDate(startDate.plusDays(2))
+                    .build();
+        }
+
+        @TearDown(Level.Invocation)
+        public void release() {
+            if (response != null && response.isAvailable()) {
+                reservationService.releaseReservation(roomId, ReleaseReservationRequest.builder()
+                        .requestId(request.getRequestId())
+                        .bookingId(request.getBookingId())
+                        .build());
+            }
+            response = null;
+        }
+    }
+}
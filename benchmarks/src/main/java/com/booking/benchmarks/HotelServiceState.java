@@ -0,0 +1,74 @@
+package com.booking.benchmarks;
+
+import com.booking.hotel.HotelServiceApplication;
+import com.booking.hotel.entity.RoomReservation;
+import com.booking.hotel.repository.HotelRepository;
+import com.booking.hotel.repository.RoomReservationRepository;
+import com.booking.hotel.service.AvailabilityIndex;
+import com.booking.hotel.service.HotelStatisticsService;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// A running hotel-service (H2, no Eureka) seeded by ScaledDataLoader instead of its own DataLoader
+@State(Scope.Benchmark)
+public class HotelServiceState {
+
+    @Param({"10", "1000", "10000", "100000"})
+    public int rooms;
+
+    ConfigurableApplicationContext context;
+    List<Long> hotelIds;
+    long[] availableRoomIds;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(HotelServiceApplication.class)
+                .properties("spring.config.name=benchmark-hotel")
+                .initializers(ctx -> ctx.addBeanFactoryPostProcessor(beanFactory ->
+                        ((BeanDefinitionRegistry) beanFactory).removeBeanDefinition("dataLoader")))
+                .run();
+
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+        RoomReservationRepository reservationRepository = context.getBean(RoomReservationRepository.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        hotelIds = new ScaledDataLoader(
+                context.getBean(HotelRepository.class),
+                reservationRepository,
+                jdbcTemplate,
+                transactionTemplate,
+                context.getBean(EntityManager.class))
+                .load(rooms);
+        // Confirming an out-of-service room throws, so confirms only target these
+        availableRoomIds = jdbcTemplate.queryForList("SELECT id FROM rooms WHERE available = TRUE", Long.class)
+                .stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+
+        // The index and the statistics were built on startup, before the seed data existed
+        context.getBean(HotelStatisticsService.class).reconcile();
+        AvailabilityIndex availabilityIndex = context.getBean(AvailabilityIndex.class);
+        transactionTemplate.executeWithoutResult(tx -> availabilityIndex.load(
+                reservationRepository.findByStatusNot(RoomReservation.ReservationStatus.RELEASED)));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
@@ -0,0 +1,89 @@
+package com.booking.benchmarks;
+
+import com.booking.service.security.JwtService;
+import com.booking.service.security.TokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// Token work the booking-service JWT filter does per authenticated request. Run with -prof gc and
+// compare gc.alloc.rate.norm (bytes/op) of perCallParserFilterPath and filterPath.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private JwtService jwtService;
+    private TokenCache tokenCache;
+    private UserDetails user;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtService = new JwtService(SECRET, 3_600_000L);
+        tokenCache = new TokenCache(true, 10_000, Duration.ofHours(1), new SimpleMeterRegistry());
+        user = User.withUsername("john").password("john123").roles("USER").build();
+        token = jwtService.generateToken(user);
+    }
+
+    /**
+     * Baseline: the filter before the parser was cached. Username, validity and expiration each
+     * parsed the token with a freshly decoded key and a freshly built parser.
+     */
+    @Benchmark
+    public boolean perCallParserFilterPath() {
+        String username = parseWithNewParser(token).getSubject();
+        return parseWithNewParser(token).getSubject().equals(username)
+                && user.getUsername().equals(username)
+                && !parseWithNewParser(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean filterPath() {
+        Claims claims = jwtService.parseToken(token);
+        return jwtService.isTokenValid(claims, user);
+    }
+
+    // Repeat requests with the same token once it has been verified
+    @Benchmark
+    public TokenCache.VerifiedToken cachedFilterPath() {
+        return tokenCache.get(token, jwtService::verify);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    private static Claims parseWithNewParser(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
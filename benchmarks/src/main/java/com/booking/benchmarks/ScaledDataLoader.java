@@ -0,0 +1,128 @@
+package com.booking.benchmarks;
+
+import com.booking.hotel.entity.Hotel;
+import com.booking.hotel.entity.Room;
+import com.booking.hotel.entity.RoomReservation;
+import com.booking.hotel.repository.HotelRepository;
+import com.booking.hotel.repository.RoomReservationRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// The hotel-service DataLoader data (5 hotels, 52 rooms) scaled to any room count: every hotel
+// keeps its share of rooms, its share of unavailable rooms and their timesBooked. Each booked
+// room also gets timesBooked CONFIRMED reservations spread over the coming months.
+@RequiredArgsConstructor
+@Slf4j
+class ScaledDataLoader {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final List<HotelTemplate> TEMPLATES = List.of(
+            new HotelTemplate("Grand Hotel", "123 Main Street, New York, NY 10001", 10, 8, 5),
+            new HotelTemplate("Budget Inn", "456 Oak Avenue, Los Angeles, CA 90001", 7, 7, 0),
+            new HotelTemplate("Luxury Resort & Spa", "789 Beach Road, Miami, FL 33101", 15, 12, 3),
+            new HotelTemplate("City Center Hotel", "321 Downtown Street, Chicago, IL 60601", 8, 6, 2),
+            new HotelTemplate("Mountain View Lodge", "555 Alpine Road, Denver, CO 80201", 12, 10, 4));
+
+    private static final int TEMPLATE_ROOMS = TEMPLATES.stream().mapToInt(HotelTemplate::rooms).sum();
+
+    private final HotelRepository hotelRepository;
+    private final RoomReservationRepository reservationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    List<Long> load(int totalRooms) {
+        List<Long> hotelIds = new ArrayList<>();
+        int assigned = 0;
+        for (int h = 0; h < TEMPLATES.size(); h++) {
+            HotelTemplate template = TEMPLATES.get(h);
+            int rooms = h == TEMPLATES.size() - 1
+                    ? totalRooms - assigned
+                    : (int) Math.round((double) totalRooms * template.rooms() / TEMPLATE_ROOMS);
+            rooms = Math.min(rooms, totalRooms - assigned);
+            assigned += rooms;
+
+            Hotel hotel = hotelRepository.save(Hotel.builder()
+                    .name(template.name())
+                    .address(template.address())
+                    .build());
+            hotelIds.add(hotel.getId());
+            insertRooms(hotel.getId(), h + 1, rooms,
+                    (int) Math.round((double) rooms * template.availableRooms() / template.rooms()),
+                    template.timesBooked());
+        }
+
+        int reservations = insertReservations();
+        log.info("Benchmark data loaded: hotels={}, rooms={}, reservations={}",
+                hotelIds.size(), totalRooms, reservations);
+        return hotelIds;
+    }
+
+    private void insertRooms(Long hotelId, int prefix, int rooms, int availableRooms, int timesBooked) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 1; i <= rooms; i++) {
+            boolean available = i <= availableRooms;
+            batch.add(new Object[]{hotelId, prefix + String.format("%06d", i), available,
+                    available ? 0 : timesBooked, now});
+            if (batch.size() == BATCH_SIZE || i == rooms) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO rooms (hotel_id, number, available, times_booked, created_at) VALUES (?, ?, ?, ?, ?)",
+                        batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private int insertReservations() {
+        List<long[]> bookedRooms = jdbcTemplate.query(
+                "SELECT id, times_booked FROM rooms WHERE times_booked > 0 ORDER BY id",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+
+        int reservations = 0;
+        for (int from = 0; from < bookedRooms.size(); from += BATCH_SIZE) {
+            List<long[]> chunk = bookedRooms.subList(from, Math.min(from + BATCH_SIZE, bookedRooms.size()));
+            int firstBookingId = reservations + 1;
+            reservations += transactionTemplate.execute(tx -> saveReservations(chunk, firstBookingId));
+        }
+        return reservations;
+    }
+
+    private int saveReservations(List<long[]> rooms, long firstBookingId) {
+        LocalDate today = LocalDate.now();
+        List<RoomReservation> reservations = new ArrayList<>();
+        long bookingId = firstBookingId;
+        for (long[] room : rooms) {
+            long roomId = room[0];
+            for (int k = 0; k < room[1]; k++) {
+                LocalDate startDate = today.plusDays(30L * k + roomId % 30 + 1);
+                reservations.add(RoomReservation.builder()
+                        .room(entityManager.getReference(Room.class, roomId))
+                        .bookingId(bookingId)
+                        .requestId("seed-" + bookingId)
+                        .startDate(startDate)
+                        .endDate(startDate.plusDays(2))
+                        .status(RoomReservation.ReservationStatus.CONFIRMED)
+                        .build());
+                bookingId++;
+            }
+        }
+        reservationRepository.saveAll(reservations);
+        entityManager.flush();
+        entityManager.clear();
+        return reservations.size();
+    }
+
+    private record HotelTemplate(String name, String address, int rooms, int availableRooms, int timesBooked) {
+    }
+}
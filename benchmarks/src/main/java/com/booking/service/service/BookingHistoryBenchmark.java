@@ -0,0 +1,130 @@
+package com.booking.service.service;
+
+import com.booking.service.BookingServiceApplication;
+import com.booking.service.dto.BookingResponse;
+import com.booking.service.entity.Booking;
+import com.booking.service.entity.User;
+import com.booking.service.repository.BookingRepository;
+import com.booking.service.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// One page of a user's booking history (bookings rows seeded for that user) read as managed Booking
+// entities and mapped with mapToResponse, as BookingService did, against the BOOKING_RESPONSE
+// constructor expression it uses now. Both run in a read-only transaction, like getUserBookings.
+// Run with -prof gc to compare gc.alloc.rate.norm. Lives in BookingService's package to reach the
+// package-private mapToResponse.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookingHistoryBenchmark {
+
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    @Param({"1000", "10000"})
+    public int bookings;
+
+    // BookingController's default page and BookingService.MAX_PAGE_SIZE
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnly;
+    private EntityManager entityManager;
+    private UserRepository userRepository;
+    private BookingRepository bookingRepository;
+    private BookingService bookingService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BookingServiceApplication.class)
+                .properties("spring.config.name=benchmark-booking")
+                .initializers(ctx -> ctx.addBeanFactoryPostProcessor(beanFactory ->
+                        ((BeanDefinitionRegistry) beanFactory).removeBeanDefinition("dataLoader")))
+                .run();
+
+        entityManager = context.getBean(EntityManager.class);
+        userRepository = context.getBean(UserRepository.class);
+        bookingRepository = context.getBean(BookingRepository.class);
+        bookingService = context.getBean(BookingService.class);
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+        readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+
+        User user = userRepository.save(User.builder()
+                .username("bench")
+                .password("")
+                .role(User.Role.USER)
+                .build());
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        for (int seeded = 0; seeded < bookings; seeded += SEED_BATCH_SIZE) {
+            List<Booking> batch = new ArrayList<>();
+            for (int i = seeded; i < Math.min(bookings, seeded + SEED_BATCH_SIZE); i++) {
+                batch.add(Booking.builder()
+                        .user(user)
+                        .roomId((long) (i % 100) + 1)
+                        .startDate(startDate.plusDays(i))
+                        .endDate(startDate.plusDays(i + 2))
+                        .status(Booking.BookingStatus.CONFIRMED)
+                        .requestId(UUID.randomUUID().toString())
+                        .build());
+            }
+            transactionTemplate.executeWithoutResult(tx -> bookingRepository.saveAll(batch));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookingResponse> entities() {
+        return readOnly.execute(tx -> {
+            User user = userRepository.findByUsername("bench").orElseThrow();
+            // BookingRepository.findFirstPageByUser before it selected BookingResponse
+            return entityManager.createQuery(
+                            "SELECT b FROM Booking b WHERE b.user = :user ORDER BY b.createdAt DESC, b.id DESC",
+                            Booking.class)
+                    .setParameter("user", user)
+                    .setMaxResults(pageSize)
+                    .getResultStream()
+                    .map(bookingService::mapToResponse)
+                    .toList();
+        });
+    }
+
+    @Benchmark
+    public List<BookingResponse> projection() {
+        return readOnly.execute(tx -> {
+            User user = userRepository.findByUsername("bench").orElseThrow();
+            return bookingRepository.findFirstPageByUser(user, Limit.of(pageSize));
+        });
+    }
+}
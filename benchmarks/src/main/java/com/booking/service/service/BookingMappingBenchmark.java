@@ -0,0 +1,61 @@
+package com.booking.service.service;
+
+import com.booking.service.dto.BookingResponse;
+import com.booking.service.entity.Booking;
+import com.booking.service.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.objenesis.ObjenesisStd;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// Lives in BookingService's package to reach the package-private mapToResponse
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookingMappingBenchmark {
+
+    private BookingService bookingService;
+    private Booking booking;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Mapping touches no collaborators, so skip the constructor and its dependencies
+        bookingService = new ObjenesisStd().newInstance(BookingService.class);
+
+        User user = User.builder()
+                .id(1L)
+                .username("john")
+                .role(User.Role.USER)
+                .build();
+        booking = Booking.builder()
+                .id(1L)
+                .user(user)
+                .roomId(1L)
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(3))
+                .status(Booking.BookingStatus.CONFIRMED)
+                .requestId("bench-request")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Benchmark
+    public BookingResponse mapToResponse() {
+        return bookingService.mapToResponse(booking);
+    }
+}
@@ -1,26 +1,83 @@
 package com.booking.service.client;
 
+import com.booking.service.security.IdentityHeaders;
 import feign.Logger;
+import feign.Request;
+import feign.RequestInterceptor;
 import feign.Retryer;
 import feign.codec.ErrorDecoder;
+import org.springframework.cloud.openfeign.CircuitBreakerNameResolver;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
 @Configuration
 public class FeignConfig {
 
     @Bean
-    public Retryer retryer() {
-        return new Retryer.Default(1000, 3000, 3);
+    public Retryer retryer(HotelClientProperties properties) {
+        return new HotelClientRetryer(properties.getRetry());
+    }
+
+    /**
+     * Timeouts come from {@code booking.hotel-client}, not {@code spring.cloud.openfeign.client.config}:
+     * client properties would replace these options and drop the per-method read timeouts.
+     */
+    @Bean
+    public Request.Options requestOptions(HotelClientProperties properties) {
+        return new MethodOptions(properties.getConnectTimeout(), properties.getReadTimeout(),
+                properties.getReadTimeouts());
     }
 
     @Bean
-    public Logger.Level feignLoggerLevel() {
-        return Logger.Level.FULL;
+    public Logger.Level feignLoggerLevel(HotelClientProperties properties) {
+        return properties.getLoggerLevel();
+    }
+
+    /**
+     * One circuit breaker, bulkhead and time limiter for all of hotel-service instead of one per
+     * method, matching the {@code hotel-service} instances configured under {@code resilience4j}.
+     */
+    @Bean
+    public CircuitBreakerNameResolver circuitBreakerNameResolver() {
+        return (feignClientName, target, method) -> feignClientName;
     }
 
     @Bean
     public ErrorDecoder errorDecoder() {
         return new FeignErrorDecoder();
     }
+
+    /**
+     * Signs booking-service's own identity on every call: hotel-service only accepts
+     * {@link IdentityHeaders#SERVICE_ROLE} on the internal endpoints HotelClient calls, including
+     * calls made outside a request (saga, outbox). Signed per attempt, so retries stay valid.
+     */
+    @Bean
+    public RequestInterceptor identityHeadersInterceptor(IdentityHeaders identityHeaders) {
+        return template -> identityHeaders.signService().forEach(template::header);
+    }
+
+    /**
+     * Feign keeps {@link Request.Options#setMethodOptions} per thread, so per-method timeouts are
+     * resolved from a fixed map instead.
+     */
+    static class MethodOptions extends Request.Options {
+
+        private final Map<String, Request.Options> methodOptions = new HashMap<>();
+
+        MethodOptions(Duration connectTimeout, Duration readTimeout, Map<String, Duration> readTimeouts) {
+            super(connectTimeout, readTimeout, true);
+            readTimeouts.forEach((method, timeout) ->
+                    methodOptions.put(method, new Request.Options(connectTimeout, timeout, true)));
+        }
+
+        @Override
+        public Request.Options getMethodOptions(String methodName) {
+            return methodOptions.getOrDefault(methodName, this);
+        }
+    }
 }
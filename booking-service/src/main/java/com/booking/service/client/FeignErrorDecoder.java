@@ -1,5 +1,6 @@
 package com.booking.service.client;
 
+import com.booking.service.config.LoadSheddingOutcome;
 import com.booking.service.exception.BookingException;
 import feign.Response;
 import feign.codec.ErrorDecoder;
@@ -11,6 +12,10 @@ public class FeignErrorDecoder implements ErrorDecoder {
     @Override
     public Exception decode(String methodKey, Response response) {
         log.error("Feign error occurred: method={}, status={}", methodKey, response.status());
+        // hotel-service is failing, not answering about the room; the booking counts as a drop
+        if (response.status() >= 500) {
+            LoadSheddingOutcome.markDropped();
+        }
 
         return switch (response.status()) {
             case 404 -> new BookingException("Room not found or not available");
@@ -1,23 +1,20 @@
 package com.booking.service.client;
 
+import com.booking.service.dto.BatchConfirmAvailabilityRequest;
+import com.booking.service.dto.BatchConfirmAvailabilityResponse;
 import com.booking.service.dto.ConfirmAvailabilityRequest;
 import com.booking.service.dto.ConfirmAvailabilityResponse;
 import com.booking.service.dto.ReleaseReservationRequest;
-import com.booking.service.dto.RoomDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDate;
-import java.util.List;
-
-@FeignClient(name = "hotel-service", configuration = FeignConfig.class, fallback = HotelClientFallback.class)
+@FeignClient(name = "hotel-service", configuration = FeignConfig.class, fallbackFactory = HotelClientFallbackFactory.class)
 public interface HotelClient {
 
-    @GetMapping("/api/rooms/recommend")
-    List<RoomDTO> getRecommendedRooms(
+    @PostMapping("/api/rooms/reserve")
+    ConfirmAvailabilityResponse reserveAnyRoom(
             @RequestParam Long hotelId,
-            @RequestParam LocalDate startDate,
-            @RequestParam LocalDate endDate
+            @RequestBody ConfirmAvailabilityRequest request
     );
 
     @PostMapping("/api/rooms/{roomId}/confirm-availability")
@@ -26,9 +23,17 @@ public interface HotelClient {
             @RequestBody ConfirmAvailabilityRequest request
     );
 
+    @PostMapping("/api/rooms/confirm-availability/batch")
+    BatchConfirmAvailabilityResponse confirmAvailabilityBatch(
+            @RequestBody BatchConfirmAvailabilityRequest request
+    );
+
     @PostMapping("/api/rooms/{roomId}/release")
     void releaseReservation(
             @PathVariable Long roomId,
             @RequestBody ReleaseReservationRequest request
     );
+
+    @PostMapping("/api/rooms/release")
+    void releaseBookingReservation(@RequestBody ReleaseReservationRequest request);
 }
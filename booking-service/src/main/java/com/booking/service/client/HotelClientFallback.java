@@ -1,25 +1,28 @@
 package com.booking.service.client;
 
+import com.booking.service.dto.BatchConfirmAvailabilityRequest;
+import com.booking.service.dto.BatchConfirmAvailabilityResponse;
 import com.booking.service.dto.ConfirmAvailabilityRequest;
 import com.booking.service.dto.ConfirmAvailabilityResponse;
 import com.booking.service.dto.ReleaseReservationRequest;
-import com.booking.service.dto.RoomDTO;
+import com.booking.service.exception.BookingException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDate;
 import java.util.Collections;
-import java.util.List;
 
 @Component
 @Slf4j
 public class HotelClientFallback implements HotelClient {
 
     @Override
-    public List<RoomDTO> getRecommendedRooms(Long hotelId, LocalDate startDate, LocalDate endDate) {
-        log.error("Circuit breaker activated for getRecommendedRooms: hotelId={}, dates={} to {}",
-                hotelId, startDate, endDate);
-        return Collections.emptyList();
+    public ConfirmAvailabilityResponse reserveAnyRoom(Long hotelId, ConfirmAvailabilityRequest request) {
+        log.error("Circuit breaker activated for reserveAnyRoom: hotelId={}, bookingId={}",
+                hotelId, request.getBookingId());
+        return ConfirmAvailabilityResponse.builder()
+                .available(false)
+                .message("Hotel service is temporarily unavailable. Please try again later.")
+                .build();
     }
 
     @Override
@@ -32,9 +35,28 @@ public class HotelClientFallback implements HotelClient {
                 .build();
     }
 
+    @Override
+    public BatchConfirmAvailabilityResponse confirmAvailabilityBatch(BatchConfirmAvailabilityRequest request) {
+        log.error("Circuit breaker activated for confirmAvailabilityBatch: reservations={}",
+                request.getItems().size());
+        return BatchConfirmAvailabilityResponse.builder()
+                .available(false)
+                .message("Hotel service is temporarily unavailable. Please try again later.")
+                .results(Collections.emptyList())
+                .build();
+    }
+
     @Override
     public void releaseReservation(Long roomId, ReleaseReservationRequest request) {
         log.error("Circuit breaker activated for releaseReservation: roomId={}, bookingId={}",
                 roomId, request.getBookingId());
+        // Let the outbox dispatcher see the failure and retry later
+        throw new BookingException("Hotel service is temporarily unavailable");
+    }
+
+    @Override
+    public void releaseBookingReservation(ReleaseReservationRequest request) {
+        log.error("Circuit breaker activated for releaseBookingReservation: bookingId={}", request.getBookingId());
+        throw new BookingException("Hotel service is temporarily unavailable");
     }
 }
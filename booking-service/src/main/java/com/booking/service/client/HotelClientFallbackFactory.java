@@ -0,0 +1,27 @@
+package com.booking.service.client;
+
+import com.booking.service.config.LoadSheddingOutcome;
+import com.booking.service.exception.BookingException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serves {@link HotelClientFallback} and counts the booking as a load-shedding drop when hotel-service
+ * did not answer: timeouts, connection errors, an open circuit or a full bulkhead. HTTP errors arrive
+ * as {@link BookingException} from {@link FeignErrorDecoder}, which marks the 5xx ones itself.
+ */
+@Component
+@RequiredArgsConstructor
+public class HotelClientFallbackFactory implements FallbackFactory<HotelClient> {
+
+    private final HotelClientFallback fallback;
+
+    @Override
+    public HotelClient create(Throwable cause) {
+        if (!(cause instanceof BookingException)) {
+            LoadSheddingOutcome.markDropped();
+        }
+        return fallback;
+    }
+}
@@ -0,0 +1,66 @@
+package com.booking.service.client;
+
+import feign.Logger;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resilience profile of {@link HotelClient}: timeouts, retries and logging of hotel-service calls.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "booking.hotel-client")
+public class HotelClientProperties {
+
+    private Logger.Level loggerLevel = Logger.Level.BASIC;
+
+    private Duration connectTimeout = Duration.ofMillis(500);
+
+    private Duration readTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Pooled connections idle for longer are closed by the Apache HttpClient 5 transport.
+     */
+    private Duration idleConnectionTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Read timeouts of individual {@link HotelClient} methods, keyed by method name.
+     */
+    private Map<String, Duration> readTimeouts = new HashMap<>();
+
+    private Retry retry = new Retry();
+
+    @Data
+    public static class Retry {
+
+        /**
+         * Attempts per call, including the first one.
+         */
+        private int maxAttempts = 2;
+
+        private Duration backoff = Duration.ofMillis(50);
+
+        /**
+         * {@link HotelClient} methods that are safe to send again after a read failure.
+         * Other calls are retried only when the connection could not be established.
+         */
+        private Set<String> idempotentMethods = new HashSet<>();
+
+        /**
+         * Retries earned by every call: 0.1 lets retries add at most ~10% to hotel-service load.
+         */
+        private double budgetRatio = 0.1;
+
+        /**
+         * Retries that can be spent in a burst (and are available right after startup).
+         */
+        private int budgetCapacity = 10;
+    }
+}
@@ -0,0 +1,97 @@
+package com.booking.service.client;
+
+import feign.Request;
+import feign.RetryableException;
+import feign.Retryer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Retries a hotel-service call only when sending it again is safe: the connection was never
+ * established, or the call is idempotent. Every retry is paid from a {@link RetryBudget} shared by
+ * all calls. The load balancer picks the instance again for each attempt, so a retry usually
+ * avoids the slow or dead instance.
+ */
+@Slf4j
+public class HotelClientRetryer implements Retryer {
+
+    private static final Set<Request.HttpMethod> IDEMPOTENT_HTTP_METHODS = EnumSet.of(
+            Request.HttpMethod.GET, Request.HttpMethod.HEAD, Request.HttpMethod.OPTIONS,
+            Request.HttpMethod.PUT, Request.HttpMethod.DELETE);
+
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final Set<String> idempotentMethods;
+    private final RetryBudget budget;
+    private int attempt = 1;
+
+    public HotelClientRetryer(HotelClientProperties.Retry retry) {
+        this(retry.getMaxAttempts(), retry.getBackoff().toMillis(), Set.copyOf(retry.getIdempotentMethods()),
+                new RetryBudget(retry.getBudgetRatio(), retry.getBudgetCapacity()));
+    }
+
+    HotelClientRetryer(int maxAttempts, long backoffMillis, Set<String> idempotentMethods, RetryBudget budget) {
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.idempotentMethods = idempotentMethods;
+        this.budget = budget;
+    }
+
+    @Override
+    public void continueOrPropagate(RetryableException e) {
+        if (attempt >= maxAttempts || !isRetryable(e)) {
+            throw e;
+        }
+        if (!budget.tryAcquire()) {
+            log.warn("Retry budget exhausted, not retrying {}: {}", methodName(e), e.getMessage());
+            throw e;
+        }
+        attempt++;
+        log.debug("Retrying {} (attempt {}): {}", methodName(e), attempt, e.getMessage());
+
+        if (backoffMillis > 0) {
+            try {
+                Thread.sleep(backoffMillis);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Feign clones the retryer once per call, which makes this the place where every call pays
+     * into the shared budget.
+     */
+    @Override
+    public Retryer clone() {
+        budget.onCall();
+        return new HotelClientRetryer(maxAttempts, backoffMillis, idempotentMethods, budget);
+    }
+
+    private boolean isRetryable(RetryableException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof ConnectException || cause instanceof NoRouteToHostException
+                || cause instanceof UnknownHostException) {
+            // The request never reached hotel-service
+            return true;
+        }
+        String methodName = methodName(e);
+        return IDEMPOTENT_HTTP_METHODS.contains(e.method())
+                || (methodName != null && idempotentMethods.contains(methodName));
+    }
+
+    private static String methodName(RetryableException e) {
+        Request request = e.request();
+        if (request == null || request.requestTemplate() == null
+                || request.requestTemplate().methodMetadata() == null) {
+            return null;
+        }
+        return request.requestTemplate().methodMetadata().method().getName();
+    }
+}
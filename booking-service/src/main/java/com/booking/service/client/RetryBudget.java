@@ -0,0 +1,42 @@
+package com.booking.service.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket shared by all calls of a client: each call deposits a fraction of a token and each
+ * retry withdraws a whole one. While hotel-service is healthy the bucket stays full; when most
+ * calls fail, retries stop once the bucket is empty instead of multiplying the load.
+ */
+public class RetryBudget {
+
+    private static final long TOKEN = 1000;
+
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    public RetryBudget(double ratio, int capacity) {
+        this.deposit = Math.round(ratio * TOKEN);
+        this.capacity = capacity * TOKEN;
+        this.balance = new AtomicLong(this.capacity);
+    }
+
+    public void onCall() {
+        balance.accumulateAndGet(deposit, (current, amount) -> Math.min(capacity, current + amount));
+    }
+
+    public boolean tryAcquire() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    public double available() {
+        return (double) balance.get() / TOKEN;
+    }
+}
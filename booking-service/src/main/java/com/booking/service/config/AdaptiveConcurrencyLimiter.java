@@ -0,0 +1,145 @@
+package com.booking.service.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit learned from latency, in the manner of the Gradient2 limit of Netflix
+ * concurrency-limits. Every {@code windowSize} requests the average latency is compared with its
+ * long-term average: while it stays within {@code rttTolerance} the limit grows by
+ * {@code queueSize}, when it rises (requests start queueing for connections or on hotel-service)
+ * the limit shrinks in proportion. Requests over the limit are rejected right away.
+ * <p>
+ * Requests that hotel-service failed (timeout, 5xx, open circuit) are drops: they carry no useful
+ * latency, an open circuit answers faster than any booking, so instead of a sample each of them
+ * cuts the limit by {@code dropBackoff}.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final int queueSize;
+    private final int windowSize;
+    private final double longRttFactor;
+    private final double dropBackoff;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile int limit;
+
+    // Guarded by lock; only taken once per completed request to add its sample
+    private final ReentrantLock lock = new ReentrantLock();
+    private double estimatedLimit;
+    private double longRtt;
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+
+    public AdaptiveConcurrencyLimiter(LoadSheddingProperties properties) {
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = properties.getMaxLimit();
+        this.rttTolerance = properties.getRttTolerance();
+        this.smoothing = properties.getSmoothing();
+        this.queueSize = properties.getQueueSize();
+        this.windowSize = properties.getWindowSize();
+        this.longRttFactor = 2.0 / (properties.getLongWindow() + 1);
+        this.dropBackoff = properties.getDropBackoff();
+        this.estimatedLimit = properties.getInitialLimit();
+        this.limit = properties.getInitialLimit();
+    }
+
+    /**
+     * @return requests in flight including this one, or -1 when the request must be rejected
+     */
+    public int tryAcquire() {
+        int current = inFlight.incrementAndGet();
+        if (current > limit) {
+            inFlight.decrementAndGet();
+            rejected.incrementAndGet();
+            return -1;
+        }
+        return current;
+    }
+
+    /**
+     * Completes a request admitted by {@link #tryAcquire()}.
+     */
+    public void release(long rttNanos, int inFlightAtStart) {
+        inFlight.decrementAndGet();
+
+        lock.lock();
+        try {
+            windowRttSum += rttNanos;
+            windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtStart);
+            if (++windowSamples >= windowSize) {
+                update((double) windowRttSum / windowSamples, windowMaxInFlight);
+                windowRttSum = 0;
+                windowSamples = 0;
+                windowMaxInFlight = 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Completes a request admitted by {@link #tryAcquire()} without sampling its latency, for
+     * responses that say nothing about saturation (e.g. rejected before any work).
+     */
+    public void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Completes a request admitted by {@link #tryAcquire()} that hotel-service failed, lowering the limit.
+     */
+    public void onDropped() {
+        inFlight.decrementAndGet();
+
+        lock.lock();
+        try {
+            estimatedLimit = Math.max(minLimit, estimatedLimit * dropBackoff);
+            limit = (int) estimatedLimit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void update(double shortRtt, int maxInFlight) {
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+        } else {
+            longRtt += (shortRtt - longRtt) * longRttFactor;
+        }
+        // After a sustained slowdown the inflated average would hide the next one; let it catch up
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        // The limit was not what bounded the load, so latency says nothing about it
+        if (maxInFlight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+}
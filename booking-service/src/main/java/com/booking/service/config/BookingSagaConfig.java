@@ -0,0 +1,28 @@
+package com.booking.service.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class BookingSagaConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor bookingSagaExecutor(
+            @Value("${booking.saga.core-pool-size:4}") int corePoolSize,
+            @Value("${booking.saga.max-pool-size:16}") int maxPoolSize,
+            @Value("${booking.saga.queue-capacity:200}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("booking-saga-");
+        // Pool and queue limits still bound the saga (and its rejection path) in virtual mode
+        executor.setVirtualThreads(virtualThreads);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,38 @@
+package com.booking.service.config;
+
+import com.booking.service.client.HotelClientProperties;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.util.TimeValue;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.openfeign.clientconfig.HttpClient5FeignConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Pooled Apache HttpClient 5 transport of HotelClient, sized by spring.cloud.openfeign.httpclient.*.
+// Disabled by the http2 profile, which moves HotelClient onto the JDK HttpClient.
+@Configuration
+@ConditionalOnClass(PoolingHttpClientConnectionManager.class)
+@ConditionalOnProperty(value = "spring.cloud.openfeign.httpclient.hc5.enabled", matchIfMissing = true)
+public class FeignTransportConfig {
+
+    @Bean
+    public HttpClient5FeignConfiguration.HttpClientBuilderCustomizer idleConnectionEviction(
+            HotelClientProperties properties) {
+        return builder -> builder
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(properties.getIdleConnectionTimeout()));
+    }
+
+    // httpcomponents.httpclient.pool.* gauges: leased, available and pending connections
+    @Bean
+    public MeterBinder hotelClientPoolMetrics(HttpClientConnectionManager hc5ConnectionManager) {
+        if (hc5ConnectionManager instanceof PoolingHttpClientConnectionManager pool) {
+            return new PoolingHttpClientConnectionManagerMetricsBinder(pool, "hotel-service");
+        }
+        return registry -> { };
+    }
+}
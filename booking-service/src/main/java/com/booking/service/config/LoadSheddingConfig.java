@@ -0,0 +1,99 @@
+package com.booking.service.config;
+
+import com.booking.service.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDateTime;
+
+// Sheds synchronous POST /api/booking and /api/booking/group requests over the adaptive concurrency
+// limit with 503, before they take a Tomcat thread for long, a Hikari connection or a hotel-service call
+@Slf4j
+@Configuration
+@ConditionalOnProperty(value = "booking.load-shedding.enabled", matchIfMissing = true)
+public class LoadSheddingConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter bookingConcurrencyLimiter(LoadSheddingProperties properties) {
+        return new AdaptiveConcurrencyLimiter(properties);
+    }
+
+    @Bean
+    public FilterRegistrationBean<Filter> loadSheddingFilter(AdaptiveConcurrencyLimiter limiter,
+                                                             ObjectMapper objectMapper) {
+        FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>((req, res, chain) -> {
+            HttpServletRequest request = (HttpServletRequest) req;
+            // Async bookings return 202 at once and are bounded by the saga executor queue
+            if (!"POST".equals(request.getMethod()) || Boolean.parseBoolean(request.getParameter("async"))) {
+                chain.doFilter(req, res);
+                return;
+            }
+
+            int inFlight = limiter.tryAcquire();
+            if (inFlight < 0) {
+                log.debug("Booking rejected: concurrency limit {} reached", limiter.getLimit());
+                HttpServletResponse response = (HttpServletResponse) res;
+                response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                objectMapper.writeValue(response.getOutputStream(), ErrorResponse.builder()
+                        .timestamp(LocalDateTime.now())
+                        .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                        .error("Service Unavailable")
+                        .message("Too many bookings in progress, please retry")
+                        .build());
+                return;
+            }
+
+            long start = System.nanoTime();
+            boolean completed = false;
+            try {
+                chain.doFilter(req, res);
+                completed = true;
+            } finally {
+                if (LoadSheddingOutcome.isDropped(request)) {
+                    limiter.onDropped();
+                } else if (completed && LoadSheddingOutcome.isHandled(request)) {
+                    // Rejected bookings (room taken) are sampled too: they did the same work
+                    limiter.release(System.nanoTime() - start, inFlight);
+                } else {
+                    // Runs ahead of Spring Security: 401s and validation errors return before the
+                    // controller, and their latency would only drag the estimate down
+                    limiter.releaseWithoutSample();
+                }
+            }
+        });
+        registration.addUrlPatterns("/api/booking", "/api/booking/group");
+        // Ahead of the virtual-thread semaphore: bookings over the limit are rejected, not parked
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder bookingConcurrencyMetrics(AdaptiveConcurrencyLimiter limiter) {
+        return registry -> {
+            Gauge.builder("booking.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("Adaptive in-flight limit of synchronous bookings")
+                    .register(registry);
+            Gauge.builder("booking.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .register(registry);
+            FunctionCounter.builder("booking.concurrency.rejected", limiter, AdaptiveConcurrencyLimiter::getRejected)
+                    .description("Bookings rejected with 503 over the limit")
+                    .register(registry);
+        };
+    }
+}
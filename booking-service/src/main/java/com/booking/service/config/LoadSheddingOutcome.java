@@ -0,0 +1,43 @@
+package com.booking.service.config;
+
+import jakarta.servlet.ServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * How a booking admitted by the load-shedding filter ended, recorded as request attributes by the
+ * code that knows it. Requests that never reached the controller (401, 403, invalid body) say
+ * nothing about load; requests that hotel-service failed are drops rather than latency samples.
+ * Outside a request (async saga, outbox) marking is a no-op.
+ */
+public final class LoadSheddingOutcome {
+
+    private static final String HANDLED = LoadSheddingOutcome.class.getName() + ".HANDLED";
+    private static final String DROPPED = LoadSheddingOutcome.class.getName() + ".DROPPED";
+
+    private LoadSheddingOutcome() {
+    }
+
+    public static void markHandled() {
+        mark(HANDLED);
+    }
+
+    public static void markDropped() {
+        mark(DROPPED);
+    }
+
+    static boolean isHandled(ServletRequest request) {
+        return request.getAttribute(HANDLED) != null;
+    }
+
+    static boolean isDropped(ServletRequest request) {
+        return request.getAttribute(DROPPED) != null;
+    }
+
+    private static void mark(String name) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(name, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.booking.service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adaptive concurrency limit of synchronous {@code POST /api/booking}, see {@link AdaptiveConcurrencyLimiter}.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "booking.load-shedding")
+public class LoadSheddingProperties {
+
+    private boolean enabled = true;
+
+    private int initialLimit = 20;
+
+    private int minLimit = 4;
+
+    private int maxLimit = 200;
+
+    /**
+     * Latency growth over the long-term average that is still taken as healthy.
+     */
+    private double rttTolerance = 1.5;
+
+    /**
+     * Weight of each new estimate in the limit, 0..1.
+     */
+    private double smoothing = 0.2;
+
+    /**
+     * Headroom above the current limit the estimate probes for while latency stays flat.
+     */
+    private int queueSize = 4;
+
+    /**
+     * Samples averaged into one latency measurement before the limit is recalculated.
+     */
+    private int windowSize = 20;
+
+    /**
+     * Measurements in the long-term latency average.
+     */
+    private int longWindow = 100;
+
+    /**
+     * Factor the limit is multiplied by for every booking that hotel-service failed.
+     */
+    private double dropBackoff = 0.9;
+}
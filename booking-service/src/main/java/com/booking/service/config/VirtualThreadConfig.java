@@ -0,0 +1,80 @@
+package com.booking.service.config;
+
+import com.booking.service.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+import org.springframework.cloud.client.circuitbreaker.Customizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Active with spring.threads.virtual.enabled=true. Boot already moves Tomcat, @Async and
+// @Scheduled onto virtual threads; the beans below cover what it does not.
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    // Feign calls wrapped in the circuit breaker would otherwise hop onto its cached
+    // platform-thread pool for the time limiter
+    @Bean
+    public Customizer<Resilience4JCircuitBreakerFactory> virtualThreadCircuitBreakerCustomizer() {
+        return factory -> factory.configureExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    // Tomcat's thread pool used to cap in-flight requests; without it every request queues on
+    // the Hikari pool and times out there. Excess requests now park on a semaphore instead, for
+    // at most acquire-timeout before they get 503.
+    @Bean
+    public FilterRegistrationBean<Filter> concurrencyLimitFilter(
+            @Value("${booking.virtual-threads.max-concurrent-requests:100}") int maxConcurrentRequests,
+            @Value("${booking.virtual-threads.acquire-timeout:5s}") Duration acquireTimeout,
+            ObjectMapper objectMapper) {
+        Semaphore permits = new Semaphore(maxConcurrentRequests, true);
+        FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>((request, response, chain) -> {
+            boolean acquired;
+            try {
+                acquired = permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+            if (!acquired) {
+                // Parked past the timeout (or interrupted on shutdown): the client retries elsewhere
+                HttpServletResponse httpResponse = (HttpServletResponse) response;
+                httpResponse.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+                httpResponse.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                httpResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                objectMapper.writeValue(httpResponse.getOutputStream(), ErrorResponse.builder()
+                        .timestamp(LocalDateTime.now())
+                        .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                        .error("Service Unavailable")
+                        .message("Too many requests in progress, please retry")
+                        .build());
+                return;
+            }
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                permits.release();
+            }
+        });
+        // Behind LoadSheddingConfig's filter, which rejects bookings instead of parking them here
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
@@ -1,19 +1,30 @@
 package com.booking.service.controller;
 
+import com.booking.service.config.LoadSheddingOutcome;
 import com.booking.service.dto.BookingRequest;
 import com.booking.service.dto.BookingResponse;
+import com.booking.service.dto.ExportFormat;
+import com.booking.service.dto.GroupBookingRequest;
+import com.booking.service.exception.BookingException;
+import com.booking.service.service.BookingExportService;
 import com.booking.service.service.BookingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URI;
 import java.util.List;
 
 @RestController
@@ -23,33 +34,90 @@ import java.util.List;
 @SecurityRequirement(name = "Bearer Authentication")
 public class BookingController {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
     private final BookingService bookingService;
+    private final BookingExportService bookingExportService;
 
     @PostMapping("/booking")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
-    @Operation(summary = "Create booking", description = "Create a new room booking with optional auto-select")
+    @Operation(summary = "Create booking",
+            description = "Create a new room booking with optional auto-select. With async=true the booking is "
+                    + "accepted as PENDING (202) and confirmed in the background")
     public ResponseEntity<BookingResponse> createBooking(
             @Valid @RequestBody BookingRequest request,
+            @RequestParam(defaultValue = "false") boolean async,
             Authentication authentication) {
+        LoadSheddingOutcome.markHandled();
         String username = authentication.getName();
+
+        if (async) {
+            BookingResponse booking = bookingService.createBookingAsync(request, username);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/booking/" + booking.getId()))
+                    .body(booking);
+        }
+
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(bookingService.createBooking(request, username));
     }
 
+    @PostMapping("/booking/group")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @Operation(summary = "Create group booking", description = "Book several rooms for the same dates; either all are confirmed or none")
+    public ResponseEntity<List<BookingResponse>> createGroupBooking(
+            @Valid @RequestBody GroupBookingRequest request,
+            Authentication authentication) {
+        LoadSheddingOutcome.markHandled();
+        String username = authentication.getName();
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(bookingService.createGroupBooking(request, username));
+    }
+
     @GetMapping("/bookings")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
-    @Operation(summary = "Get user bookings", description = "Get all bookings for the authenticated user with optional pagination")
+    @Operation(summary = "Get user bookings",
+            description = "Bookings of the authenticated user, newest first. With size or cursor returns one page "
+                    + "and the cursor of the next; without them streams the whole history as a JSON array. "
+                    + "Offset paging (page) is rejected")
     public ResponseEntity<?> getUserBookings(
             @RequestParam(required = false) Integer page,
             @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
             Authentication authentication) {
+        // Ignoring it would answer ?page=2 with the first page, or with the whole history
+        if (page != null) {
+            throw new BookingException("Parameter 'page' is no longer supported; "
+                    + "pass the nextCursor of the previous page as 'cursor'");
+        }
         String username = authentication.getName();
 
-        if (page != null && size != null) {
-            return ResponseEntity.ok(bookingService.getUserBookingsPaginated(username, page, size));
+        if (size == null && cursor == null) {
+            StreamingResponseBody body = out -> bookingService.writeUserBookings(username, out);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body);
         }
 
-        return ResponseEntity.ok(bookingService.getUserBookings(username));
+        return ResponseEntity.ok(bookingService.getUserBookings(
+                username, cursor, size != null ? size : DEFAULT_PAGE_SIZE, includeTotal));
+    }
+
+    @GetMapping("/bookings/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Export all bookings",
+            description = "Streams every booking as NDJSON or CSV; gzip-compressed with Accept-Encoding: gzip")
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        StreamingResponseBody body = out -> bookingExportService.exportBookings(format, out);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("bookings." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
     }
 
     @GetMapping("/booking/{id}")
@@ -62,6 +130,16 @@ public class BookingController {
         return ResponseEntity.ok(bookingService.getBookingById(id, username));
     }
 
+    @GetMapping(value = "/booking/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @Operation(summary = "Subscribe to booking status", description = "Server-sent event with the final status of a booking")
+    public SseEmitter subscribeToBooking(
+            @PathVariable Long id,
+            Authentication authentication) {
+        String username = authentication.getName();
+        return bookingService.subscribeToBooking(id, username);
+    }
+
     @DeleteMapping("/booking/{id}")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
     @Operation(summary = "Cancel booking", description = "Cancel a booking")
@@ -5,14 +5,12 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class RoomDTO {
-    private Long id;
-    private Long hotelId;
-    private String number;
-    private Boolean available;
-    private Integer timesBooked;
+public class BatchConfirmAvailabilityRequest {
+    private List<BatchConfirmAvailabilityItem> items;
 }
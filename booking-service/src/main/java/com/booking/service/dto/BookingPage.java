@@ -0,0 +1,22 @@
+package com.booking.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingPage {
+    private List<BookingResponse> content;
+    // Pass back as ?cursor= for the next page; null on the last page
+    private String nextCursor;
+    // Only counted when requested with includeTotal=true
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalElements;
+}
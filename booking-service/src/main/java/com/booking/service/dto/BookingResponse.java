@@ -19,6 +19,7 @@ public class BookingResponse {
     private Long userId;
     private String username;
     private Long roomId;
+    private Long hotelId;
     private LocalDate startDate;
     private LocalDate endDate;
     private Booking.BookingStatus status;
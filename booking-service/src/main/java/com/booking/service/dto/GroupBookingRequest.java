@@ -0,0 +1,32 @@
+package com.booking.service.dto;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupBookingRequest {
+
+    @NotEmpty(message = "At least one room ID is required")
+    @Size(max = 50, message = "A group booking can contain at most 50 rooms")
+    private List<@NotNull(message = "Room ID is required") Long> roomIds;
+
+    @NotNull(message = "Start date is required")
+    @Future(message = "Start date must be in the future")
+    private LocalDate startDate;
+
+    @NotNull(message = "End date is required")
+    @Future(message = "End date must be in the future")
+    private LocalDate endDate;
+}
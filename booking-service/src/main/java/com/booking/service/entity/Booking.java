@@ -8,7 +8,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "bookings", indexes = {
-    @Index(name = "idx_user_id", columnList = "user_id"),
+    // Keyset pagination of a user's history: WHERE user_id = ? AND (created_at, id) < (?, ?)
+    @Index(name = "idx_user_created_id", columnList = "user_id, created_at, id"),
     @Index(name = "idx_request_id", columnList = "request_id")
 })
 @Getter
@@ -26,9 +27,14 @@ public class Booking {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @Column(nullable = false)
+    // Unset until hotel-service has picked a room for auto-select bookings
+    @Column
     private Long roomId;
 
+    // Requested hotel of auto-select bookings
+    @Column
+    private Long hotelId;
+
     @Column(nullable = false)
     private LocalDate startDate;
 
@@ -0,0 +1,75 @@
+package com.booking.service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "outbox_messages", indexes = {
+    @Index(name = "idx_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private MessageType type;
+
+    @Column(nullable = false)
+    private Long bookingId;
+
+    // Unknown for auto-select bookings cancelled before a room was assigned; released by booking id
+    @Column
+    private Long roomId;
+
+    @Column(length = 100)
+    private String requestId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private MessageStatus status = MessageStatus.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column
+    private LocalDateTime processedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+
+    public enum MessageType {
+        RELEASE_RESERVATION
+    }
+
+    // No terminal failure state: releases are idempotent and retried until hotel-service accepts them
+    public enum MessageStatus {
+        PENDING,
+        SENT
+    }
+}
@@ -1,25 +1,77 @@
 package com.booking.service.repository;
 
+import com.booking.service.dto.BookingResponse;
 import com.booking.service.entity.Booking;
 import com.booking.service.entity.User;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
-    List<Booking> findByUserOrderByCreatedAtDesc(User user);
+    // Read paths build BookingResponse in the query: no managed bookings, no snapshots and no user proxies
+    String BOOKING_RESPONSE = "SELECT new com.booking.service.dto.BookingResponse(" +
+            "b.id, u.id, u.username, b.roomId, b.hotelId, b.startDate, b.endDate, b.status, b.createdAt) " +
+            "FROM Booking b JOIN b.user u ";
 
-    Page<Booking> findByUser(User user, Pageable pageable);
+    @Query(BOOKING_RESPONSE + "WHERE b.id = :id")
+    Optional<BookingResponse> findResponseById(@Param("id") Long id);
+
+    @Query(BOOKING_RESPONSE + "WHERE b.user = :user ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookingResponse> findFirstPageByUser(@Param("user") User user, Limit limit);
+
+    // Keyset page: rows strictly after (createdAt, id) of the last row of the previous page
+    @Query(BOOKING_RESPONSE + "WHERE b.user = :user " +
+           "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookingResponse> findPageByUserAfter(@Param("user") User user,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Limit limit);
+
+    long countByUser(User user);
+
+    // Forward-only cursor over the whole table for exports; read-only entities skip dirty-checking snapshots
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Booking b JOIN FETCH b.user ORDER BY b.id")
+    Stream<Booking> streamAllWithUser();
 
     Optional<Booking> findByRequestId(String requestId);
 
     boolean existsByRequestId(String requestId);
 
     long countByStatus(Booking.BookingStatus status);
+
+    @EntityGraph(attributePaths = "user")
+    Optional<Booking> findWithUserById(Long id);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Booking b SET b.status = :newStatus, b.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE b.id = :id AND b.status = :expectedStatus")
+    int updateStatusIfCurrent(@Param("id") Long id,
+                              @Param("expectedStatus") Booking.BookingStatus expectedStatus,
+                              @Param("newStatus") Booking.BookingStatus newStatus);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Booking b SET b.roomId = :roomId WHERE b.id = :id AND b.roomId IS NULL")
+    int assignRoomIfUnset(@Param("id") Long id, @Param("roomId") Long roomId);
 }
@@ -0,0 +1,18 @@
+package com.booking.service.repository;
+
+import com.booking.service.entity.OutboxMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    List<OutboxMessage> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+            OutboxMessage.MessageStatus status, LocalDateTime now, Pageable pageable);
+
+    long countByStatus(OutboxMessage.MessageStatus status);
+}
@@ -1,34 +1,70 @@
 package com.booking.service.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private final long expiration;
 
-    @Value("${jwt.expiration}")
-    private long expiration;
+    // Decoding the secret and building the parser are not free; both are immutable and thread-safe
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    public JwtService(@Value("${jwt.secret}") String secret,
+                      @Value("${jwt.expiration}") long expiration) {
+        this.expiration = expiration;
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
+    /**
+     * Verifies the signature and expiration once and returns all claims, so callers that need
+     * several of them do not parse the token again.
+     */
+    public Claims parseToken(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * Parses the token into the principal data the JWT filter caches; {@code null} if the token
+     * carries no subject.
+     */
+    public TokenCache.VerifiedToken verify(String token) {
+        Claims claims = parseToken(token);
+        if (claims.getSubject() == null) {
+            return null;
+        }
+        String role = claims.get("authorities", String.class);
+        return new TokenCache.VerifiedToken(
+                claims.getSubject(),
+                role != null && !role.isEmpty() ? List.of(new SimpleGrantedAuthority(role)) : List.of(),
+                claims.getExpiration().toInstant());
+    }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = parseToken(token);
         return claimsResolver.apply(claims);
     }
 
@@ -48,33 +84,19 @@ public class JwtService {
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return isTokenValid(parseToken(token), userDetails);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !isTokenExpired(claims);
     }
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 }
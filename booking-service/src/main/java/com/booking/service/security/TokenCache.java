@@ -0,0 +1,92 @@
+package com.booking.service.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of tokens whose signature has already been verified, so a client reusing its
+ * token skips HMAC verification and claim parsing. Entries are keyed by the token's SHA-256 and
+ * never outlive the token's {@code exp}. Hit/miss counters are published as {@code cache.*}
+ * metrics with {@code cache=jwt-tokens}.
+ */
+@Component
+public class TokenCache {
+
+    public record VerifiedToken(String username, List<GrantedAuthority> authorities, Instant expiresAt) {
+
+        public boolean isExpired() {
+            return !expiresAt.isAfter(Instant.now());
+        }
+    }
+
+    private final boolean enabled;
+    private final Cache<ByteBuffer, VerifiedToken> cache;
+
+    public TokenCache(@Value("${jwt.cache.enabled:true}") boolean enabled,
+                      @Value("${jwt.cache.max-size:10000}") long maxSize,
+                      @Value("${jwt.cache.max-ttl:1h}") Duration maxTtl,
+                      MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<ByteBuffer, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(ByteBuffer key, VerifiedToken token, long currentTime) {
+                        long untilExpiry = Duration.between(Instant.now(), token.expiresAt()).toNanos();
+                        return Math.max(0, Math.min(untilExpiry, maxTtl.toNanos()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ByteBuffer key, VerifiedToken token, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, token, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(ByteBuffer key, VerifiedToken token, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt-tokens");
+    }
+
+    /**
+     * Returns the cached verification result or runs {@code verifier} on a miss. Tokens the
+     * verifier rejects (by throwing or returning {@code null}) are not cached.
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+        VerifiedToken verified = cache.get(hash(token), key -> verifier.apply(token));
+        // Expiry is enforced lazily by the cache; never hand out a token past its exp
+        return verified != null && !verified.isExpired() ? verified : null;
+    }
+
+    private static ByteBuffer hash(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.booking.service.service;
+
+import com.booking.service.dto.BookingResponse;
+import com.booking.service.dto.ExportFormat;
+import com.booking.service.entity.Booking;
+import com.booking.service.repository.BookingRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookingExportService {
+
+    private final BookingRepository bookingRepository;
+    private final BookingService bookingService;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    // One read-only transaction and cursor for the whole export; each booking is detached once
+    // written so the persistence context holds only the (far fewer) users
+    @Transactional(readOnly = true)
+    public long exportBookings(ExportFormat format, OutputStream out) throws IOException {
+        log.info("Exporting bookings as {}", format);
+
+        long rows = 0;
+        try (Stream<Booking> bookings = bookingRepository.streamAllWithUser();
+             ExportWriter writer = new ExportWriter(out, format, objectMapper,
+                     "id", "userId", "username", "roomId", "hotelId", "startDate", "endDate", "status", "createdAt")) {
+            Iterator<Booking> iterator = bookings.iterator();
+            while (iterator.hasNext()) {
+                Booking booking = iterator.next();
+                BookingResponse row = bookingService.mapToResponse(booking);
+                writer.write(row, row.getId(), row.getUserId(), row.getUsername(), row.getRoomId(), row.getHotelId(),
+                        row.getStartDate(), row.getEndDate(), row.getStatus(), row.getCreatedAt());
+                entityManager.detach(booking);
+                rows++;
+            }
+        }
+
+        log.info("Exported {} bookings", rows);
+        return rows;
+    }
+}
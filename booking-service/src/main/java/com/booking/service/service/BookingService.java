@@ -7,14 +7,29 @@ import com.booking.service.entity.User;
 import com.booking.service.exception.BookingException;
 import com.booking.service.exception.ResourceNotFoundException;
 import com.booking.service.repository.BookingRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HashSet;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,11 +37,20 @@ import java.util.stream.Collectors;
 @Slf4j
 public class BookingService {
 
+    static final int MAX_PAGE_SIZE = 100;
+    static final int STREAM_BATCH_SIZE = 500;
+
     private final BookingRepository bookingRepository;
     private final UserService userService;
     private final HotelClient hotelClient;
-
-    @Transactional
+    private final Executor bookingSagaExecutor;
+    private final BookingStatusPublisher statusPublisher;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    // Cancelled bookings and their queued releases must be committed, not rolled back
+    @Transactional(noRollbackFor = BookingException.class)
     public BookingResponse createBooking(BookingRequest request, String username) {
         log.info("Creating booking for user: {}, correlationId: {}", username, request);
 
@@ -43,19 +67,12 @@ public class BookingService {
                     .orElseThrow(() -> new BookingException("Booking request already processed"));
         }
 
-        Long roomId = request.getRoomId();
-
-        if (request.isAutoSelect()) {
-            roomId = selectRecommendedRoom(request);
-        }
-
-        if (roomId == null) {
-            throw new BookingException("Room ID is required when autoSelect is false");
-        }
+        validateRoomSelection(request);
 
         Booking booking = Booking.builder()
                 .user(user)
-                .roomId(roomId)
+                .roomId(request.isAutoSelect() ? null : request.getRoomId())
+                .hotelId(request.isAutoSelect() ? request.getHotelId() : null)
                 .startDate(request.getStartDate())
                 .endDate(request.getEndDate())
                 .status(Booking.BookingStatus.PENDING)
@@ -74,10 +91,12 @@ public class BookingService {
                     .endDate(request.getEndDate())
                     .build();
 
-            log.debug("Confirming availability for room: {}, bookingId: {}", roomId, booking.getId());
-            ConfirmAvailabilityResponse confirmResponse = hotelClient.confirmAvailability(roomId, confirmRequest);
+            ConfirmAvailabilityResponse confirmResponse = reserveRoom(booking, confirmRequest);
 
             if (confirmResponse.isAvailable()) {
+                if (booking.getRoomId() == null) {
+                    booking.setRoomId(confirmResponse.getRoomId());
+                }
                 booking.setStatus(Booking.BookingStatus.CONFIRMED);
                 booking = bookingRepository.save(booking);
                 log.info("Booking CONFIRMED: bookingId={}, reservationId={}",
@@ -95,19 +114,7 @@ public class BookingService {
 
             booking.setStatus(Booking.BookingStatus.CANCELLED);
             bookingRepository.save(booking);
-
-            try {
-                ReleaseReservationRequest releaseRequest = ReleaseReservationRequest.builder()
-                        .requestId(requestId)
-                        .bookingId(booking.getId())
-                        .build();
-
-                hotelClient.releaseReservation(roomId, releaseRequest);
-                log.info("Reservation released successfully for bookingId: {}", booking.getId());
-            } catch (Exception releaseError) {
-                log.error("Failed to release reservation: bookingId={}, error={}",
-                        booking.getId(), releaseError.getMessage());
-            }
+            outboxService.enqueueRelease(booking);
 
             throw new BookingException("Failed to create booking: " + e.getMessage(), e);
         }
@@ -115,29 +122,219 @@ public class BookingService {
         return mapToResponse(booking);
     }
 
-    private Long selectRecommendedRoom(BookingRequest request) {
-        log.debug("Auto-selecting room for hotel: {}, dates: {} to {}",
-                request.getHotelId(), request.getStartDate(), request.getEndDate());
+    @Transactional
+    public BookingResponse createBookingAsync(BookingRequest request, String username) {
+        log.info("Creating async booking for user: {}", username);
+
+        validateDates(request.getStartDate(), request.getEndDate());
 
-        if (request.getHotelId() == null) {
-            throw new BookingException("Hotel ID is required for auto-select");
+        User user = userService.getUserByUsername(username);
+
+        validateRoomSelection(request);
+
+        Booking booking = Booking.builder()
+                .user(user)
+                .roomId(request.isAutoSelect() ? null : request.getRoomId())
+                .hotelId(request.isAutoSelect() ? request.getHotelId() : null)
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .status(Booking.BookingStatus.PENDING)
+                .requestId(UUID.randomUUID().toString())
+                .build();
+
+        booking = bookingRepository.save(booking);
+        log.info("Booking accepted with PENDING status: bookingId={}, requestId={}",
+                booking.getId(), booking.getRequestId());
+
+        // The saga must not see the booking before it is committed
+        Long bookingId = booking.getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    startBookingSaga(bookingId);
+                }
+            });
+        } else {
+            startBookingSaga(bookingId);
+        }
+
+        return mapToResponse(booking);
+    }
+
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeToBooking(Long bookingId, String username) {
+        SseEmitter emitter = statusPublisher.subscribe(bookingId);
+
+        try {
+            BookingResponse booking = getBookingById(bookingId, username);
+            if (booking.getStatus() != Booking.BookingStatus.PENDING) {
+                statusPublisher.publish(booking);
+            }
+        } catch (RuntimeException e) {
+            emitter.complete();
+            throw e;
+        }
+
+        return emitter;
+    }
+
+    private void startBookingSaga(Long bookingId) {
+        try {
+            bookingSagaExecutor.execute(() -> runBookingSaga(bookingId));
+        } catch (RejectedExecutionException e) {
+            log.error("Booking saga rejected, executor is saturated: bookingId={}", bookingId);
+            finishBookingSaga(bookingId, Booking.BookingStatus.CANCELLED, null, null);
+        }
+    }
+
+    private void runBookingSaga(Long bookingId) {
+        Booking booking = bookingRepository.findById(bookingId).orElse(null);
+        if (booking == null || booking.getStatus() != Booking.BookingStatus.PENDING) {
+            log.warn("Booking saga skipped, booking is no longer PENDING: bookingId={}", bookingId);
+            return;
+        }
+
+        boolean available = false;
+        Long assignedRoomId = null;
+        try {
+            ConfirmAvailabilityRequest confirmRequest = ConfirmAvailabilityRequest.builder()
+                    .requestId(booking.getRequestId())
+                    .bookingId(bookingId)
+                    .startDate(booking.getStartDate())
+                    .endDate(booking.getEndDate())
+                    .build();
+
+            ConfirmAvailabilityResponse confirmResponse = reserveRoom(booking, confirmRequest);
+            available = confirmResponse.isAvailable();
+            if (available && booking.getRoomId() == null) {
+                assignedRoomId = confirmResponse.getRoomId();
+                booking.setRoomId(assignedRoomId);
+            }
+            if (!available) {
+                log.warn("Booking CANCELLED - room not available: bookingId={}", bookingId);
+            }
+        } catch (Exception e) {
+            log.error("Error during booking confirmation: bookingId={}, error={}", bookingId, e.getMessage());
+        }
+
+        if (available && finishBookingSaga(bookingId, Booking.BookingStatus.CONFIRMED, assignedRoomId, null)) {
+            log.info("Booking CONFIRMED: bookingId={}", bookingId);
+            return;
+        }
+
+        // Cancelled by the user while confirming, rejected, or failed: undo any reservation made
+        finishBookingSaga(bookingId, Booking.BookingStatus.CANCELLED, assignedRoomId, booking);
+    }
+
+    private boolean finishBookingSaga(Long bookingId, Booking.BookingStatus status, Long assignedRoomId,
+                                      Booking releaseFor) {
+        boolean updated = Boolean.TRUE.equals(transactionTemplate.execute(tx -> {
+            boolean changed = bookingRepository.updateStatusIfCurrent(
+                    bookingId, Booking.BookingStatus.PENDING, status) == 1;
+            if (assignedRoomId != null) {
+                // Auto-select bookings learn their room from hotel-service's reservation
+                bookingRepository.assignRoomIfUnset(bookingId, assignedRoomId);
+            }
+            if (releaseFor != null) {
+                outboxService.enqueueRelease(releaseFor);
+            }
+            return changed;
+        }));
+        bookingRepository.findWithUserById(bookingId)
+                .map(this::mapToResponse)
+                .ifPresent(statusPublisher::publish);
+        return updated;
+    }
+
+    @Transactional(noRollbackFor = BookingException.class)
+    public List<BookingResponse> createGroupBooking(GroupBookingRequest request, String username) {
+        log.info("Creating group booking for user: {}, rooms: {}", username, request.getRoomIds());
+
+        validateDates(request.getStartDate(), request.getEndDate());
+
+        if (new HashSet<>(request.getRoomIds()).size() != request.getRoomIds().size()) {
+            throw new BookingException("Room IDs in a group booking must be unique");
+        }
+
+        User user = userService.getUserByUsername(username);
+
+        List<Booking> bookings = request.getRoomIds().stream()
+                .map(roomId -> Booking.builder()
+                        .user(user)
+                        .roomId(roomId)
+                        .startDate(request.getStartDate())
+                        .endDate(request.getEndDate())
+                        .status(Booking.BookingStatus.PENDING)
+                        .requestId(UUID.randomUUID().toString())
+                        .build())
+                .collect(Collectors.toList());
+
+        bookings = bookingRepository.saveAll(bookings);
+        log.info("Group booking created with PENDING status: bookings={}", bookings.size());
+
+        try {
+            BatchConfirmAvailabilityRequest confirmRequest = BatchConfirmAvailabilityRequest.builder()
+                    .items(bookings.stream()
+                            .map(booking -> BatchConfirmAvailabilityItem.builder()
+                                    .roomId(booking.getRoomId())
+                                    .requestId(booking.getRequestId())
+                                    .bookingId(booking.getId())
+                                    .startDate(booking.getStartDate())
+                                    .endDate(booking.getEndDate())
+                                    .build())
+                            .collect(Collectors.toList()))
+                    .build();
+
+            log.debug("Confirming availability for group booking: rooms={}", request.getRoomIds());
+            BatchConfirmAvailabilityResponse confirmResponse = hotelClient.confirmAvailabilityBatch(confirmRequest);
+
+            if (confirmResponse.isAvailable()) {
+                bookings.forEach(booking -> booking.setStatus(Booking.BookingStatus.CONFIRMED));
+                bookings = bookingRepository.saveAll(bookings);
+                log.info("Group booking CONFIRMED: bookings={}", bookings.size());
+            } else {
+                bookings.forEach(booking -> booking.setStatus(Booking.BookingStatus.CANCELLED));
+                bookingRepository.saveAll(bookings);
+                log.warn("Group booking CANCELLED - not all rooms available: rooms={}", request.getRoomIds());
+                throw new BookingException("One or more rooms are not available for the selected dates");
+            }
+
+        } catch (Exception e) {
+            log.error("Error during group booking confirmation: rooms={}, error={}",
+                    request.getRoomIds(), e.getMessage());
+
+            bookings.forEach(booking -> booking.setStatus(Booking.BookingStatus.CANCELLED));
+            bookingRepository.saveAll(bookings);
+            bookings.forEach(outboxService::enqueueRelease);
+
+            throw new BookingException("Failed to create group booking: " + e.getMessage(), e);
         }
 
-        List<RoomDTO> recommendedRooms = hotelClient.getRecommendedRooms(
-                request.getHotelId(),
-                request.getStartDate(),
-                request.getEndDate()
-        );
+        return bookings.stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    private void validateRoomSelection(BookingRequest request) {
+        if (request.isAutoSelect() && request.getHotelId() == null) {
+            throw new BookingException("Hotel ID is required for auto-select");
+        }
 
-        if (recommendedRooms.isEmpty()) {
-            throw new BookingException("No available rooms found for the selected dates");
+        if (!request.isAutoSelect() && request.getRoomId() == null) {
+            throw new BookingException("Room ID is required when autoSelect is false");
         }
+    }
 
-        Long selectedRoomId = recommendedRooms.get(0).getId();
-        log.info("Auto-selected room: {} (timesBooked: {})",
-                selectedRoomId, recommendedRooms.get(0).getTimesBooked());
+    // Auto-select bookings have no room yet: hotel-service picks and reserves one in the same call
+    private ConfirmAvailabilityResponse reserveRoom(Booking booking, ConfirmAvailabilityRequest confirmRequest) {
+        if (booking.getRoomId() != null) {
+            log.debug("Confirming availability for room: {}, bookingId: {}", booking.getRoomId(), booking.getId());
+            return hotelClient.confirmAvailability(booking.getRoomId(), confirmRequest);
+        }
 
-        return selectedRoomId;
+        log.debug("Reserving any room in hotel: {}, bookingId: {}", booking.getHotelId(), booking.getId());
+        return hotelClient.reserveAnyRoom(booking.getHotelId(), confirmRequest);
     }
 
     private void validateDates(LocalDate startDate, LocalDate endDate) {
@@ -155,44 +352,104 @@ public class BookingService {
     }
 
     @Transactional(readOnly = true)
-    public List<BookingResponse> getUserBookings(String username) {
-        log.debug("Fetching bookings for user: {}", username);
+    public BookingPage getUserBookings(String username, String cursor, int size, boolean includeTotal) {
+        log.debug("Fetching bookings for user: {} (cursor={}, size={})", username, cursor, size);
+
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BookingException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
 
         User user = userService.getUserByUsername(username);
+        List<BookingResponse> rows = findUserBookings(user, cursor, size + 1);
 
-        return bookingRepository.findByUserOrderByCreatedAtDesc(user)
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        // The extra row only tells whether there is a next page
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+
+        return BookingPage.builder()
+                .content(rows)
+                .nextCursor(hasNext ? encodeCursor(rows.get(rows.size() - 1)) : null)
+                .totalElements(includeTotal ? bookingRepository.countByUser(user) : null)
+                .build();
     }
 
-    @Transactional(readOnly = true)
-    public org.springframework.data.domain.Page<BookingResponse> getUserBookingsPaginated(
-            String username, int page, int size) {
-        log.debug("Fetching paginated bookings for user: {} (page={}, size={})", username, page, size);
+    /**
+     * Writes the whole history of a user as a JSON array, newest first. Rows are read in keyset
+     * batches of {@value #STREAM_BATCH_SIZE}, each in its own short transaction, so neither memory
+     * nor a pooled connection is held for the time the client takes to read the response.
+     */
+    public void writeUserBookings(String username, OutputStream out) throws IOException {
+        log.debug("Streaming bookings for user: {}", username);
 
         User user = userService.getUserByUsername(username);
 
-        org.springframework.data.domain.Pageable pageable =
-            org.springframework.data.domain.PageRequest.of(page, size,
-                org.springframework.data.domain.Sort.by("createdAt").descending());
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            String cursor = null;
+            List<BookingResponse> batch;
+            do {
+                batch = findUserBookings(user, cursor, STREAM_BATCH_SIZE);
+                for (BookingResponse booking : batch) {
+                    objectMapper.writeValue(generator, booking);
+                }
+                generator.flush();
+                if (!batch.isEmpty()) {
+                    cursor = encodeCursor(batch.get(batch.size() - 1));
+                }
+            } while (batch.size() == STREAM_BATCH_SIZE);
+            generator.writeEndArray();
+        }
+    }
+
+    private List<BookingResponse> findUserBookings(User user, String cursor, int limit) {
+        if (cursor == null) {
+            return bookingRepository.findFirstPageByUser(user, Limit.of(limit));
+        }
+
+        String[] key = decodeCursor(cursor);
+        LocalDateTime createdAt;
+        Long id;
+        try {
+            createdAt = LocalDateTime.parse(key[0]);
+            id = Long.valueOf(key[1]);
+        } catch (RuntimeException e) {
+            throw new BookingException("Invalid cursor: " + cursor);
+        }
+        return bookingRepository.findPageByUserAfter(user, createdAt, id, Limit.of(limit));
+    }
 
-        return bookingRepository.findByUser(user, pageable)
-                .map(this::mapToResponse);
+    // Opaque to clients: base64url of "createdAt|id" of the last row of a page
+    private static String encodeCursor(BookingResponse booking) {
+        String key = booking.getCreatedAt() + "|" + booking.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String[] key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (key.length == 2) {
+                return key;
+            }
+        } catch (IllegalArgumentException e) {
+            // reported below
+        }
+        throw new BookingException("Invalid cursor: " + cursor);
     }
 
     @Transactional(readOnly = true)
     public BookingResponse getBookingById(Long bookingId, String username) {
         log.debug("Fetching booking: {} for user: {}", bookingId, username);
 
-        Booking booking = bookingRepository.findById(bookingId)
+        BookingResponse booking = bookingRepository.findResponseById(bookingId)
                 .orElseThrow(() -> new ResourceNotFoundException("Booking not found with ID: " + bookingId));
 
-        if (!booking.getUser().getUsername().equals(username)) {
+        if (!booking.getUsername().equals(username)) {
             throw new BookingException("Access denied to booking: " + bookingId);
         }
 
-        return mapToResponse(booking);
+        return booking;
     }
 
     @Transactional
@@ -212,27 +469,17 @@ public class BookingService {
 
         booking.setStatus(Booking.BookingStatus.CANCELLED);
         bookingRepository.save(booking);
-
-        try {
-            ReleaseReservationRequest releaseRequest = ReleaseReservationRequest.builder()
-                    .requestId(booking.getRequestId())
-                    .bookingId(booking.getId())
-                    .build();
-
-            hotelClient.releaseReservation(booking.getRoomId(), releaseRequest);
-            log.info("Reservation released for cancelled booking: {}", bookingId);
-        } catch (Exception e) {
-            log.error("Failed to release reservation for booking: {}, error: {}",
-                    bookingId, e.getMessage());
-        }
+        outboxService.enqueueRelease(booking);
+        log.info("Release queued for cancelled booking: {}", bookingId);
     }
 
-    private BookingResponse mapToResponse(Booking booking) {
+    BookingResponse mapToResponse(Booking booking) {
         return BookingResponse.builder()
                 .id(booking.getId())
                 .userId(booking.getUser().getId())
                 .username(booking.getUser().getUsername())
                 .roomId(booking.getRoomId())
+                .hotelId(booking.getHotelId())
                 .startDate(booking.getStartDate())
                 .endDate(booking.getEndDate())
                 .status(booking.getStatus())
@@ -0,0 +1,53 @@
+package com.booking.service.service;
+
+import com.booking.service.dto.BookingResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Component
+@Slf4j
+public class BookingStatusPublisher {
+
+    private final Map<Long, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    @Value("${booking.saga.subscription-timeout:60000}")
+    private long subscriptionTimeout = 60000;
+
+    public SseEmitter subscribe(Long bookingId) {
+        SseEmitter emitter = new SseEmitter(subscriptionTimeout);
+        subscribers.computeIfAbsent(bookingId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+
+        Runnable unsubscribe = () -> subscribers.computeIfPresent(bookingId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+        return emitter;
+    }
+
+    public void publish(BookingResponse booking) {
+        List<SseEmitter> emitters = subscribers.remove(booking.getId());
+        if (emitters == null) {
+            return;
+        }
+
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().name("status").data(booking));
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Failed to notify booking subscriber: bookingId={}, error={}", booking.getId(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.booking.service.service;
+
+import com.booking.service.client.HotelClient;
+import com.booking.service.dto.ReleaseReservationRequest;
+import com.booking.service.entity.OutboxMessage;
+import com.booking.service.repository.OutboxMessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxDispatcher {
+
+    private final OutboxMessageRepository outboxRepository;
+    private final HotelClient hotelClient;
+
+    @Value("${booking.outbox.batch-size:50}")
+    private int batchSize = 50;
+
+    // Failures from this attempt on are logged as errors; delivery keeps going at max-backoff
+    @Value("${booking.outbox.alert-after-attempts:10}")
+    private int alertAfterAttempts = 10;
+
+    @Value("${booking.outbox.initial-backoff:1s}")
+    private Duration initialBackoff = Duration.ofSeconds(1);
+
+    @Value("${booking.outbox.max-backoff:5m}")
+    private Duration maxBackoff = Duration.ofMinutes(5);
+
+    @Scheduled(fixedDelayString = "${booking.outbox.poll-interval:1000}")
+    public void dispatchPending() {
+        List<OutboxMessage> messages;
+        do {
+            messages = outboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                    OutboxMessage.MessageStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize));
+            messages.forEach(this::dispatch);
+            outboxRepository.saveAll(messages);
+        } while (messages.size() == batchSize);
+    }
+
+    private void dispatch(OutboxMessage message) {
+        try {
+            // hotel-service treats repeated releases for the same booking as no-ops
+            ReleaseReservationRequest releaseRequest = ReleaseReservationRequest.builder()
+                    .requestId(message.getRequestId())
+                    .bookingId(message.getBookingId())
+                    .build();
+
+            if (message.getRoomId() != null) {
+                hotelClient.releaseReservation(message.getRoomId(), releaseRequest);
+            } else {
+                hotelClient.releaseBookingReservation(releaseRequest);
+            }
+
+            message.setStatus(OutboxMessage.MessageStatus.SENT);
+            message.setProcessedAt(LocalDateTime.now());
+            log.info("Reservation released via outbox: bookingId={}, attempts={}",
+                    message.getBookingId(), message.getAttempts() + 1);
+        } catch (Exception e) {
+            int attempts = message.getAttempts() + 1;
+            message.setAttempts(attempts);
+            message.setLastError(truncate(e.getMessage()));
+
+            // Never given up on: a release dropped after an outage would leak the room for good
+            message.setNextAttemptAt(LocalDateTime.now().plus(backoff(attempts)));
+            if (attempts >= alertAfterAttempts) {
+                log.error("Outbox dispatch still failing after {} attempts, retrying at {}: id={}, bookingId={}, error={}",
+                        attempts, message.getNextAttemptAt(), message.getId(), message.getBookingId(), e.getMessage());
+            } else {
+                log.warn("Outbox dispatch failed, retrying at {}: id={}, bookingId={}, error={}",
+                        message.getNextAttemptAt(), message.getId(), message.getBookingId(), e.getMessage());
+            }
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
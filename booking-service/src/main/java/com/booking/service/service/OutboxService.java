@@ -0,0 +1,30 @@
+package com.booking.service.service;
+
+import com.booking.service.entity.Booking;
+import com.booking.service.entity.OutboxMessage;
+import com.booking.service.repository.OutboxMessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxService {
+
+    private final OutboxMessageRepository outboxRepository;
+
+    @Transactional
+    public void enqueueRelease(Booking booking) {
+        OutboxMessage message = OutboxMessage.builder()
+                .type(OutboxMessage.MessageType.RELEASE_RESERVATION)
+                .bookingId(booking.getId())
+                .roomId(booking.getRoomId())
+                .requestId(booking.getRequestId())
+                .build();
+
+        outboxRepository.save(message);
+        log.debug("Release queued in outbox: bookingId={}, roomId={}", booking.getId(), booking.getRoomId());
+    }
+}
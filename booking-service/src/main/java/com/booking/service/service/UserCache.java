@@ -0,0 +1,67 @@
+package com.booking.service.service;
+
+import com.booking.service.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Short-lived username → {@link User} cache for request paths that need the entity (bookings),
+ * now that authentication no longer loads it. Cached users are detached: use them for ids and
+ * associations, not for updates.
+ */
+@Component
+public class UserCache {
+
+    private final boolean enabled;
+    private final Cache<String, User> cache;
+
+    public UserCache(@Value("${booking.security.user-cache.enabled:true}") boolean enabled,
+                     @Value("${booking.security.user-cache.max-size:10000}") long maxSize,
+                     @Value("${booking.security.user-cache.ttl:30s}") Duration ttl,
+                     MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "users");
+    }
+
+    /**
+     * Returns the cached user or runs {@code loader} on a miss; {@code null} results are not cached.
+     */
+    public User get(String username, Function<String, User> loader) {
+        return enabled ? cache.get(username, loader) : loader.apply(username);
+    }
+
+    /**
+     * Drops the user now and again after the surrounding transaction commits, so a request racing
+     * the update cannot re-cache the old row for the rest of the TTL.
+     */
+    public void evict(Long userId) {
+        evictNow(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(userId);
+                }
+            });
+        }
+    }
+
+    private void evictNow(Long userId) {
+        // Keyed by username, which an update may change; admin operations are rare enough to scan
+        cache.asMap().values().removeIf(user -> user.getId().equals(userId));
+    }
+}
@@ -20,6 +20,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
 
     @Transactional
     public UserDTO createUser(UserCreateRequest request) {
@@ -64,6 +65,7 @@ public class UserService {
         }
 
         user = userRepository.save(user);
+        userCache.evict(user.getId());
         log.info("User updated successfully: {}", user.getUsername());
 
         return mapToDTO(user);
@@ -78,12 +80,16 @@ public class UserService {
         }
 
         userRepository.deleteById(userId);
+        userCache.evict(userId);
         log.info("User deleted successfully with ID: {}", userId);
     }
 
     public User getUserByUsername(String username) {
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found: " + username));
+        User user = userCache.get(username, key -> userRepository.findByUsername(key).orElse(null));
+        if (user == null) {
+            throw new ResourceNotFoundException("User not found: " + username);
+        }
+        return user;
     }
 
     public java.util.List<UserDTO> getAllUsers() {
@@ -0,0 +1,68 @@
+package com.booking.service.client;
+
+import com.booking.service.exception.BookingException;
+import feign.RetryableException;
+import feign.Request;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotelClientFallbackFactoryTest {
+
+    private final HotelClientFallback fallback = new HotelClientFallback();
+    private final HotelClientFallbackFactory factory = new HotelClientFallbackFactory(fallback);
+
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest("POST", "/api/booking");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void create_Timeout_ShouldMarkBookingDropped() {
+        // Arrange
+        Request hotelRequest = Request.create(Request.HttpMethod.POST, "http://hotel-service/api/rooms/reserve",
+                Map.of(), new byte[0], StandardCharsets.UTF_8, null);
+        SocketTimeoutException timeout = new SocketTimeoutException("Read timed out");
+
+        // Act
+        HotelClient client = factory.create(new RetryableException(
+                -1, timeout.getMessage(), Request.HttpMethod.POST, timeout, (Long) null, hotelRequest));
+
+        // Assert
+        assertSame(fallback, client);
+        assertEquals(1, droppedAttributes());
+    }
+
+    @Test
+    void create_RoomConflict_ShouldNotMarkBookingDropped() {
+        // Act
+        factory.create(new BookingException("Room is already booked for the specified dates"));
+
+        // Assert
+        assertEquals(0, droppedAttributes());
+    }
+
+    private long droppedAttributes() {
+        return Collections.list(request.getAttributeNames()).stream()
+                .filter(name -> name.endsWith(".DROPPED"))
+                .count();
+    }
+}
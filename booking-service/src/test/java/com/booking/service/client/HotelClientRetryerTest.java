@@ -0,0 +1,109 @@
+package com.booking.service.client;
+
+import feign.MethodMetadata;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.RetryableException;
+import feign.Retryer;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotelClientRetryerTest {
+
+    private static final Map<String, MethodMetadata> METADATA = new SpringMvcContract()
+            .parseAndValidateMetadata(HotelClient.class).stream()
+            .collect(Collectors.toMap(m -> m.method().getName(), m -> m));
+
+    @Test
+    void continueOrPropagate_IdempotentMethodReadTimeout_ShouldRetryOnce() {
+        // Arrange
+        Retryer retryer = retryer(Set.of("confirmAvailability"), new RetryBudget(0.1, 10)).clone();
+        RetryableException e = failure("confirmAvailability", new SocketTimeoutException("Read timed out"));
+
+        // Act & Assert
+        assertDoesNotThrow(() -> retryer.continueOrPropagate(e));
+        assertSame(e, assertThrows(RetryableException.class, () -> retryer.continueOrPropagate(e)));
+    }
+
+    @Test
+    void continueOrPropagate_NonIdempotentMethodReadTimeout_ShouldNotRetry() {
+        // Arrange
+        Retryer retryer = retryer(Set.of(), new RetryBudget(0.1, 10)).clone();
+        RetryableException e = failure("reserveAnyRoom", new SocketTimeoutException("Read timed out"));
+
+        // Act & Assert
+        assertThrows(RetryableException.class, () -> retryer.continueOrPropagate(e));
+    }
+
+    @Test
+    void continueOrPropagate_ConnectFailure_ShouldRetryAnyMethod() {
+        // Arrange
+        Retryer retryer = retryer(Set.of(), new RetryBudget(0.1, 10)).clone();
+        RetryableException e = failure("reserveAnyRoom", new ConnectException("Connection refused"));
+
+        // Act & Assert
+        assertDoesNotThrow(() -> retryer.continueOrPropagate(e));
+    }
+
+    @Test
+    void continueOrPropagate_BudgetExhausted_ShouldNotRetry() {
+        // Arrange
+        RetryBudget budget = new RetryBudget(0.1, 1);
+        Retryer prototype = retryer(Set.of("confirmAvailability"), budget);
+        RetryableException e = failure("confirmAvailability", new SocketTimeoutException("Read timed out"));
+        assertDoesNotThrow(() -> prototype.clone().continueOrPropagate(e));
+
+        // Act & Assert
+        assertThrows(RetryableException.class, () -> prototype.clone().continueOrPropagate(e));
+    }
+
+    @Test
+    void retryBudget_ShouldRefillFromCalls() {
+        // Arrange
+        RetryBudget budget = new RetryBudget(0.25, 1);
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+
+        // Act
+        for (int i = 0; i < 4; i++) {
+            budget.onCall();
+        }
+
+        // Assert
+        assertTrue(budget.tryAcquire());
+        assertEquals(0.0, budget.available());
+    }
+
+    @Test
+    void methodOptions_ShouldResolvePerMethodReadTimeout() {
+        // Arrange
+        Request.Options options = new FeignConfig.MethodOptions(Duration.ofMillis(500),
+                Duration.ofSeconds(2), Map.of("confirmAvailabilityBatch", Duration.ofSeconds(4)));
+
+        // Act & Assert
+        assertEquals(4000, options.getMethodOptions("confirmAvailabilityBatch").readTimeoutMillis());
+        assertEquals(500, options.getMethodOptions("confirmAvailabilityBatch").connectTimeoutMillis());
+        assertEquals(2000, options.getMethodOptions("confirmAvailability").readTimeoutMillis());
+    }
+
+    private static HotelClientRetryer retryer(Set<String> idempotentMethods, RetryBudget budget) {
+        return new HotelClientRetryer(2, 0, idempotentMethods, budget);
+    }
+
+    private static RetryableException failure(String method, Throwable cause) {
+        RequestTemplate template = new RequestTemplate().methodMetadata(METADATA.get(method));
+        Request request = Request.create(Request.HttpMethod.POST, "http://hotel-service/api/rooms",
+                Map.of(), new byte[0], StandardCharsets.UTF_8, template);
+        return new RetryableException(-1, cause.getMessage(), Request.HttpMethod.POST, cause, (Long) null, request);
+    }
+}
@@ -0,0 +1,124 @@
+package com.booking.service.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(50);
+
+    @Test
+    void tryAcquire_OverLimit_ShouldReject() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire() > 0);
+        }
+
+        // Act & Assert
+        assertEquals(-1, limiter.tryAcquire());
+        assertEquals(4, limiter.getInFlight());
+        assertEquals(1, limiter.getRejected());
+    }
+
+    @Test
+    void release_SaturatedWithSteadyLatency_ShouldRaiseLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+
+        // Act
+        complete(limiter, 200, FAST, 20);
+
+        // Assert
+        assertTrue(limiter.getLimit() > 20, "limit " + limiter.getLimit());
+    }
+
+    @Test
+    void release_LatencyRising_ShouldLowerLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+        complete(limiter, 200, FAST, 20);
+        int learned = limiter.getLimit();
+
+        // Act
+        complete(limiter, 200, FAST * 10, learned);
+
+        // Assert
+        assertTrue(limiter.getLimit() <= learned / 2, "limit " + limiter.getLimit() + " of " + learned);
+    }
+
+    @Test
+    void release_LightLoad_ShouldKeepLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+
+        // Act
+        complete(limiter, 200, FAST, 2);
+
+        // Assert
+        assertEquals(20, limiter.getLimit());
+    }
+
+    @Test
+    void releaseWithoutSample_ShouldFreeSlotAndKeepLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+        complete(limiter, 200, FAST, 20);
+        int learned = limiter.getLimit();
+
+        // Act
+        for (int i = 0; i < 200; i++) {
+            limiter.tryAcquire();
+            limiter.releaseWithoutSample();
+        }
+
+        // Assert
+        assertEquals(learned, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void onDropped_ShouldFreeSlotAndLowerLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+
+        // Act
+        limiter.tryAcquire();
+        limiter.onDropped();
+
+        // Assert
+        assertEquals(18, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void onDropped_Outage_ShouldStopAtMinLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.onDropped();
+        }
+
+        // Assert
+        assertEquals(4, limiter.getLimit());
+    }
+
+    private static void complete(AdaptiveConcurrencyLimiter limiter, int requests, long rttNanos, int inFlight) {
+        for (int i = 0; i < requests; i++) {
+            limiter.tryAcquire();
+            limiter.release(rttNanos, inFlight);
+        }
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        LoadSheddingProperties properties = new LoadSheddingProperties();
+        properties.setInitialLimit(initialLimit);
+        return new AdaptiveConcurrencyLimiter(properties);
+    }
+}
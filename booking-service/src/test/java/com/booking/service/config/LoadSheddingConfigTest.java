@@ -0,0 +1,173 @@
+package com.booking.service.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoadSheddingConfigTest {
+
+    @Mock
+    private AdaptiveConcurrencyLimiter limiter;
+
+    private Filter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new LoadSheddingConfig()
+                .loadSheddingFilter(limiter, new ObjectMapper().findAndRegisterModules())
+                .getFilter();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void loadSheddingFilter_SuccessfulBooking_ShouldSampleLatency() throws Exception {
+        // Arrange
+        when(limiter.tryAcquire()).thenReturn(3);
+
+        // Act
+        filter.doFilter(booking(), new MockHttpServletResponse(), handled(201));
+
+        // Assert
+        verify(limiter).release(anyLong(), eq(3));
+        verify(limiter, never()).releaseWithoutSample();
+    }
+
+    @Test
+    void loadSheddingFilter_RoomNotAvailable_ShouldSampleLatency() throws Exception {
+        // Arrange
+        when(limiter.tryAcquire()).thenReturn(3);
+
+        // Act
+        filter.doFilter(booking(), new MockHttpServletResponse(), handled(400));
+
+        // Assert
+        verify(limiter).release(anyLong(), eq(3));
+        verify(limiter, never()).onDropped();
+    }
+
+    @Test
+    void loadSheddingFilter_HotelServiceFailed_ShouldCountDrop() throws Exception {
+        // Arrange
+        when(limiter.tryAcquire()).thenReturn(3);
+
+        // Act
+        filter.doFilter(booking(), new MockHttpServletResponse(), (req, res) -> {
+            LoadSheddingOutcome.markHandled();
+            LoadSheddingOutcome.markDropped();
+            ((MockHttpServletResponse) res).setStatus(400);
+        });
+
+        // Assert
+        verify(limiter).onDropped();
+        verify(limiter, never()).release(anyLong(), anyInt());
+        verify(limiter, never()).releaseWithoutSample();
+    }
+
+    @Test
+    void loadSheddingFilter_Unauthorized_ShouldNotSampleLatency() throws Exception {
+        // Arrange
+        when(limiter.tryAcquire()).thenReturn(3);
+
+        // Act
+        filter.doFilter(booking(), new MockHttpServletResponse(),
+                (req, res) -> ((MockHttpServletResponse) res).setStatus(401));
+
+        // Assert
+        verify(limiter).releaseWithoutSample();
+        verify(limiter, never()).release(anyLong(), anyInt());
+    }
+
+    @Test
+    void loadSheddingFilter_InvalidBody_ShouldNotSampleLatency() throws Exception {
+        // Arrange
+        when(limiter.tryAcquire()).thenReturn(3);
+
+        // Act: rejected by @Valid before the controller method runs
+        filter.doFilter(booking(), new MockHttpServletResponse(),
+                (req, res) -> ((MockHttpServletResponse) res).setStatus(400));
+
+        // Assert
+        verify(limiter).releaseWithoutSample();
+        verify(limiter, never()).release(anyLong(), anyInt());
+    }
+
+    @Test
+    void loadSheddingFilter_ShouldCoverGroupBookings() {
+        // Act
+        Collection<String> urlPatterns = new LoadSheddingConfig()
+                .loadSheddingFilter(limiter, new ObjectMapper())
+                .getUrlPatterns();
+
+        // Assert
+        assertTrue(urlPatterns.contains("/api/booking/group"));
+    }
+
+    @Test
+    void loadSheddingFilter_ChainThrows_ShouldFreeSlotWithoutSample() {
+        // Arrange
+        when(limiter.tryAcquire()).thenReturn(3);
+
+        // Act
+        assertThrows(ServletException.class, () -> filter.doFilter(booking(), new MockHttpServletResponse(),
+                (req, res) -> {
+                    throw new ServletException("boom");
+                }));
+
+        // Assert
+        verify(limiter).releaseWithoutSample();
+        verify(limiter, never()).release(anyLong(), anyInt());
+    }
+
+    @Test
+    void loadSheddingFilter_OverLimit_ShouldRespond503() throws Exception {
+        // Arrange
+        when(limiter.tryAcquire()).thenReturn(-1);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(booking(), response, (req, res) -> fail("request should not pass"));
+
+        // Assert
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        verify(limiter, never()).releaseWithoutSample();
+    }
+
+    // Marks the request the way BookingController does when the chain reaches it
+    private static FilterChain handled(int status) {
+        return (req, res) -> {
+            LoadSheddingOutcome.markHandled();
+            ((MockHttpServletResponse) res).setStatus(status);
+        };
+    }
+
+    private static MockHttpServletRequest booking() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/booking");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        return request;
+    }
+}
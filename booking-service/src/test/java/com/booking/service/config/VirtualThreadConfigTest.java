@@ -0,0 +1,101 @@
+package com.booking.service.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadConfigTest {
+
+    private final Filter filter = new VirtualThreadConfig()
+            .concurrencyLimitFilter(1, Duration.ofMillis(50), new ObjectMapper().findAndRegisterModules())
+            .getFilter();
+
+    @Test
+    void concurrencyLimitFilter_WithFreePermit_ShouldPassRequest() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/booking"), response,
+                (req, res) -> ((MockHttpServletResponse) res).setStatus(201));
+
+        // Assert
+        assertEquals(201, response.getStatus());
+    }
+
+    @Test
+    void concurrencyLimitFilter_WhenWaitTimesOut_ShouldRespond503() throws Exception {
+        // Arrange
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = Thread.ofVirtual().start(() -> doFilter((req, res) -> {
+            entered.countDown();
+            await(release);
+        }));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        // Act
+        MockHttpServletResponse response = doFilter((req, res) -> fail("request should not pass"));
+
+        // Assert
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(response.getContentAsString().contains("Service Unavailable"));
+
+        release.countDown();
+        holder.join();
+        assertEquals(200, doFilter((req, res) -> { }).getStatus());
+    }
+
+    @Test
+    void concurrencyLimitFilter_WhenInterrupted_ShouldRespond503() throws Exception {
+        // Arrange
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = Thread.ofVirtual().start(() -> doFilter((req, res) -> {
+            entered.countDown();
+            await(release);
+        }));
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        // Act
+        Thread.currentThread().interrupt();
+        MockHttpServletResponse response = doFilter((req, res) -> fail("request should not pass"));
+
+        // Assert
+        assertTrue(Thread.interrupted());
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+
+        release.countDown();
+        holder.join();
+    }
+
+    private MockHttpServletResponse doFilter(FilterChain chain) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(new MockHttpServletRequest("POST", "/api/booking"), response, chain);
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+        return response;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
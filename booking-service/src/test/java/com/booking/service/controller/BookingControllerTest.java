@@ -0,0 +1,81 @@
+package com.booking.service.controller;
+
+import com.booking.service.security.JwtService;
+import com.booking.service.service.BookingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Runs the real security chain: the JWT filter authenticates only the initial dispatch, so the
+// async dispatch that completes a response must be let through on its own
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.cloud.discovery.enabled=false",
+        "management.tracing.enabled=false"
+})
+@AutoConfigureMockMvc
+class BookingControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @MockitoBean
+    private BookingService bookingService;
+
+    @Test
+    void subscribeToBooking_StatusPublished_ShouldCompleteOnAsyncDispatch() throws Exception {
+        // Arrange
+        SseEmitter emitter = new SseEmitter(60000L);
+        when(bookingService.subscribeToBooking(1L, "john")).thenReturn(emitter);
+        String token = jwtService.generateToken(User.withUsername("john").password("").roles("USER").build());
+
+        MvcResult result = mockMvc.perform(get("/api/booking/1/events")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Act
+        emitter.send(SseEmitter.event().name("status").data("CONFIRMED"));
+        emitter.complete();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("data:CONFIRMED")));
+    }
+
+    @Test
+    void getUserBookings_WithPage_ShouldPointToCursor() throws Exception {
+        // Arrange
+        String token = jwtService.generateToken(User.withUsername("john").password("").roles("USER").build());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/bookings")
+                        .param("page", "2")
+                        .param("size", "10")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("cursor")));
+        verifyNoInteractions(bookingService);
+    }
+}
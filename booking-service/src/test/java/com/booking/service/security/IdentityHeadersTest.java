@@ -0,0 +1,120 @@
+package com.booking.service.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdentityHeadersTest {
+
+    private static final String SECRET = "4j5FZ0TrZBjGBRAo48yK9wBVkV1FlGOd5dMh74VL7Ps=";
+
+    // Signed by the api-gateway's IdentityHeaders (see its IdentityHeadersTest) for john/ROLE_USER
+    private static final long GATEWAY_EXPIRES = 4102444800L;
+    private static final String GATEWAY_SIGNATURE = "lgQpMRLmLZX5c2BuaB6nsmYP0gZzUKccmwOuIPUN2Bg";
+
+    private IdentityHeaders identityHeaders;
+    private TokenCache.VerifiedToken token;
+
+    @BeforeEach
+    void setUp() {
+        identityHeaders = new IdentityHeaders(SECRET);
+        token = new TokenCache.VerifiedToken("john", List.of(new SimpleGrantedAuthority("ROLE_USER")),
+                Instant.now().plus(1, ChronoUnit.HOURS).truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void verify_WithSignedHeaders_ShouldReturnIdentity() {
+        // Arrange
+        MockHttpServletRequest request = requestWith(identityHeaders.sign(token));
+
+        // Act
+        TokenCache.VerifiedToken result = identityHeaders.verify(request);
+
+        // Assert
+        assertEquals(token, result);
+    }
+
+    @Test
+    void verify_WithGatewaySignedHeaders_ShouldReturnIdentity() {
+        // Arrange
+        MockHttpServletRequest request = requestWith(Map.of(
+                IdentityHeaders.USER, "john",
+                IdentityHeaders.ROLE, "ROLE_USER",
+                IdentityHeaders.EXPIRES, String.valueOf(GATEWAY_EXPIRES),
+                IdentityHeaders.SIGNATURE, GATEWAY_SIGNATURE));
+
+        // Act
+        TokenCache.VerifiedToken result = identityHeaders.verify(request);
+
+        // Assert
+        assertNotNull(result);
+        assertEquals("john", result.username());
+        assertEquals(List.of(new SimpleGrantedAuthority("ROLE_USER")), result.authorities());
+        assertEquals(Instant.ofEpochSecond(GATEWAY_EXPIRES), result.expiresAt());
+    }
+
+    @Test
+    void signService_ShouldVerifyAsServiceRole() {
+        // Arrange
+        MockHttpServletRequest request = requestWith(identityHeaders.signService());
+
+        // Act
+        TokenCache.VerifiedToken result = identityHeaders.verify(request);
+
+        // Assert
+        assertNotNull(result);
+        assertEquals("booking-service", result.username());
+        assertEquals(List.of(new SimpleGrantedAuthority(IdentityHeaders.SERVICE_ROLE)), result.authorities());
+        assertTrue(result.expiresAt().isAfter(Instant.now()));
+    }
+
+    @Test
+    void verify_WithTamperedRole_ShouldReturnNull() {
+        // Arrange
+        MockHttpServletRequest request = requestWith(identityHeaders.sign(token));
+        request.removeHeader(IdentityHeaders.ROLE);
+        request.addHeader(IdentityHeaders.ROLE, "ROLE_ADMIN");
+
+        // Act & Assert
+        assertNull(identityHeaders.verify(request));
+    }
+
+    @Test
+    void verify_WithOtherSecret_ShouldReturnNull() {
+        // Arrange
+        IdentityHeaders other = new IdentityHeaders("3VfMGQiFx/8C3nU0dJr3ZfBrcYbKW9PC8d3v0l2bFh0=");
+        MockHttpServletRequest request = requestWith(other.sign(token));
+
+        // Act & Assert
+        assertNull(identityHeaders.verify(request));
+    }
+
+    @Test
+    void verify_WithExpiredIdentity_ShouldReturnNull() {
+        // Arrange
+        TokenCache.VerifiedToken expired = new TokenCache.VerifiedToken("john", List.of(), Instant.now().minusSeconds(1));
+        MockHttpServletRequest request = requestWith(identityHeaders.sign(expired));
+
+        // Act & Assert
+        assertNull(identityHeaders.verify(request));
+    }
+
+    @Test
+    void verify_WithoutHeaders_ShouldReturnNull() {
+        assertNull(identityHeaders.verify(new MockHttpServletRequest()));
+    }
+
+    private static MockHttpServletRequest requestWith(Map<String, String> headers) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        headers.forEach(request::addHeader);
+        return request;
+    }
+}
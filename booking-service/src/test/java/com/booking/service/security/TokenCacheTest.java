@@ -0,0 +1,97 @@
+package com.booking.service.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenCacheTest {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenCache tokenCache;
+    private JwtService jwtService;
+    private AtomicInteger verifications;
+    private Function<String, TokenCache.VerifiedToken> verifier;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenCache = new TokenCache(true, 100, Duration.ofHours(1), meterRegistry);
+        jwtService = new JwtService(SECRET, 3_600_000L);
+        verifications = new AtomicInteger();
+        verifier = token -> {
+            verifications.incrementAndGet();
+            return jwtService.verify(token);
+        };
+    }
+
+    @Test
+    void get_WithRepeatedToken_ShouldVerifyOnce() {
+        // Arrange
+        String token = jwtService.generateToken(User.withUsername("john").password("x").roles("USER").build());
+
+        // Act
+        TokenCache.VerifiedToken first = tokenCache.get(token, verifier);
+        TokenCache.VerifiedToken second = tokenCache.get(token, verifier);
+
+        // Assert
+        assertEquals(1, verifications.get());
+        assertSame(first, second);
+        assertEquals("john", second.username());
+        assertEquals("ROLE_USER", second.authorities().get(0).getAuthority());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "jwt-tokens").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "jwt-tokens").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    void get_WithExpiredEntry_ShouldNotReturnIt() {
+        // Arrange
+        TokenCache.VerifiedToken expired = new TokenCache.VerifiedToken("john", List.of(), Instant.now().minusSeconds(1));
+
+        // Act & Assert
+        assertNull(tokenCache.get("expired-token", token -> expired));
+        assertNull(tokenCache.get("expired-token", token -> expired));
+    }
+
+    @Test
+    void get_WhenVerifierRejects_ShouldNotCache() {
+        // Act
+        assertThrows(RuntimeException.class, () -> tokenCache.get("bad-token", token -> {
+            verifications.incrementAndGet();
+            throw new IllegalArgumentException("bad signature");
+        }));
+        assertNull(tokenCache.get("bad-token", token -> {
+            verifications.incrementAndGet();
+            return null;
+        }));
+
+        // Assert
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void get_WhenDisabled_ShouldAlwaysVerify() {
+        // Arrange
+        TokenCache disabled = new TokenCache(false, 100, Duration.ofHours(1), meterRegistry);
+        String token = jwtService.generateToken(User.withUsername("john").password("x").roles("USER").build());
+
+        // Act
+        disabled.get(token, verifier);
+        disabled.get(token, verifier);
+
+        // Assert
+        assertEquals(2, verifications.get());
+    }
+}
@@ -0,0 +1,118 @@
+package com.booking.service.service;
+
+import com.booking.service.dto.BookingResponse;
+import com.booking.service.dto.ExportFormat;
+import com.booking.service.entity.Booking;
+import com.booking.service.entity.User;
+import com.booking.service.repository.BookingRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingExportServiceTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingService bookingService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @InjectMocks
+    private BookingExportService exportService;
+
+    private Booking first;
+    private Booking second;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder()
+                .id(1L)
+                .username("smith, john")
+                .role(User.Role.USER)
+                .build();
+
+        first = booking(1L, user);
+        second = booking(2L, user);
+        when(bookingRepository.streamAllWithUser()).thenReturn(Stream.of(first, second));
+        when(bookingService.mapToResponse(any())).thenAnswer(i -> {
+            Booking booking = i.getArgument(0);
+            return BookingResponse.builder()
+                    .id(booking.getId())
+                    .userId(booking.getUser().getId())
+                    .username(booking.getUser().getUsername())
+                    .roomId(booking.getRoomId())
+                    .startDate(booking.getStartDate())
+                    .endDate(booking.getEndDate())
+                    .status(booking.getStatus())
+                    .createdAt(booking.getCreatedAt())
+                    .build();
+        });
+    }
+
+    @Test
+    void exportBookings_AsNdjson_ShouldWriteOneObjectPerLine() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long rows = exportService.exportBookings(ExportFormat.NDJSON, out);
+
+        // Assert
+        assertEquals(2, rows);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(1L, objectMapper.readTree(lines[0]).get("id").asLong());
+        assertEquals(2L, objectMapper.readTree(lines[1]).get("id").asLong());
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    @Test
+    void exportBookings_AsCsv_ShouldWriteHeaderAndQuoteValues() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        exportService.exportBookings(ExportFormat.CSV, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(3, lines.length);
+        assertEquals("id,userId,username,roomId,hotelId,startDate,endDate,status,createdAt", lines[0]);
+        assertTrue(lines[1].startsWith("1,1,\"smith, john\",10,,2026-11-01,2026-11-03,CONFIRMED,"), lines[1]);
+    }
+
+    private static Booking booking(Long id, User user) {
+        return Booking.builder()
+                .id(id)
+                .user(user)
+                .roomId(10L)
+                .startDate(LocalDate.of(2026, 11, 1))
+                .endDate(LocalDate.of(2026, 11, 3))
+                .status(Booking.BookingStatus.CONFIRMED)
+                .createdAt(LocalDateTime.of(2026, 10, 1, 12, 0))
+                .build();
+    }
+}
@@ -7,23 +7,33 @@ import com.booking.service.entity.User;
 import com.booking.service.exception.BookingException;
 import com.booking.service.exception.ResourceNotFoundException;
 import com.booking.service.repository.BookingRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.ByteArrayOutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +48,21 @@ class BookingServiceTest {
     @Mock
     private HotelClient hotelClient;
 
+    @Mock
+    private Executor bookingSagaExecutor;
+
+    @Mock
+    private BookingStatusPublisher statusPublisher;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
     @InjectMocks
     private BookingService bookingService;
 
@@ -47,6 +72,9 @@ class BookingServiceTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(i -> ((TransactionCallback<?>) i.getArgument(0)).doInTransaction(null));
+
         testUser = User.builder()
                 .id(1L)
                 .username("testuser")
@@ -102,7 +130,7 @@ class BookingServiceTest {
     }
 
     @Test
-    void createBooking_WithAutoSelect_ShouldSelectRecommendedRoom() {
+    void createBooking_WithAutoSelect_ShouldLetHotelServiceReserveRoom() {
         // Arrange
         BookingRequest autoSelectRequest = BookingRequest.builder()
                 .hotelId(1L)
@@ -111,18 +139,8 @@ class BookingServiceTest {
                 .autoSelect(true)
                 .build();
 
-        RoomDTO recommendedRoom = RoomDTO.builder()
-                .id(5L)
-                .hotelId(1L)
-                .number("101")
-                .available(true)
-                .timesBooked(2)
-                .build();
-
         when(userService.getUserByUsername("testuser")).thenReturn(testUser);
         when(bookingRepository.existsByRequestId(any())).thenReturn(false);
-        when(hotelClient.getRecommendedRooms(anyLong(), any(), any()))
-                .thenReturn(Arrays.asList(recommendedRoom));
         when(bookingRepository.save(any(Booking.class))).thenAnswer(i -> {
             Booking booking = i.getArgument(0);
             booking.setId(1L);
@@ -132,17 +150,19 @@ class BookingServiceTest {
         ConfirmAvailabilityResponse confirmResponse = ConfirmAvailabilityResponse.builder()
                 .available(true)
                 .reservationId(1L)
+                .roomId(5L)
                 .build();
-        when(hotelClient.confirmAvailability(anyLong(), any())).thenReturn(confirmResponse);
+        when(hotelClient.reserveAnyRoom(eq(1L), any())).thenReturn(confirmResponse);
 
         // Act
         BookingResponse response = bookingService.createBooking(autoSelectRequest, "testuser");
 
         // Assert
         assertNotNull(response);
-        assertEquals(5L, response.getRoomId()); // Selected room ID
+        assertEquals(5L, response.getRoomId()); // Room picked by hotel-service
+        assertEquals(1L, response.getHotelId());
         assertEquals(Booking.BookingStatus.CONFIRMED, response.getStatus());
-        verify(hotelClient).getRecommendedRooms(eq(1L), any(), any());
+        verify(hotelClient, never()).confirmAvailability(anyLong(), any());
     }
 
     @Test
@@ -208,8 +228,9 @@ class BookingServiceTest {
                 bookingService.createBooking(validRequest, "testuser")
         );
 
-        // Verify compensation was attempted
-        verify(hotelClient).releaseReservation(anyLong(), any());
+        // Verify compensation was queued
+        verify(outboxService).enqueueRelease(any(Booking.class));
+        verify(hotelClient, never()).releaseReservation(anyLong(), any());
 
         // Verify booking was saved as CANCELLED
         ArgumentCaptor<Booking> captor = ArgumentCaptor.forClass(Booking.class);
@@ -218,6 +239,269 @@ class BookingServiceTest {
                 .anyMatch(b -> b.getStatus() == Booking.BookingStatus.CANCELLED));
     }
 
+    @Test
+    void createBookingAsync_ShouldReturnPendingAndConfirmInBackground() {
+        // Arrange
+        Booking pending = Booking.builder()
+                .id(1L)
+                .user(testUser)
+                .roomId(1L)
+                .startDate(validRequest.getStartDate())
+                .endDate(validRequest.getEndDate())
+                .status(Booking.BookingStatus.PENDING)
+                .requestId("test-request-id")
+                .build();
+
+        when(userService.getUserByUsername("testuser")).thenReturn(testUser);
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(i -> {
+            Booking booking = i.getArgument(0);
+            booking.setId(1L);
+            return booking;
+        });
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(pending));
+        when(hotelClient.confirmAvailability(eq(1L), any())).thenReturn(ConfirmAvailabilityResponse.builder()
+                .available(true)
+                .reservationId(1L)
+                .build());
+        when(bookingRepository.updateStatusIfCurrent(1L, Booking.BookingStatus.PENDING,
+                Booking.BookingStatus.CONFIRMED)).thenReturn(1);
+        when(bookingRepository.findWithUserById(1L)).thenReturn(Optional.of(testBooking));
+
+        // Act
+        BookingResponse response = bookingService.createBookingAsync(validRequest, "testuser");
+
+        // Assert
+        assertEquals(Booking.BookingStatus.PENDING, response.getStatus());
+        verify(hotelClient, never()).confirmAvailability(anyLong(), any());
+
+        ArgumentCaptor<Runnable> saga = ArgumentCaptor.forClass(Runnable.class);
+        verify(bookingSagaExecutor).execute(saga.capture());
+        saga.getValue().run();
+
+        verify(hotelClient).confirmAvailability(eq(1L), any());
+        verify(statusPublisher).publish(argThat(b -> b.getStatus() == Booking.BookingStatus.CONFIRMED));
+        verify(outboxService, never()).enqueueRelease(any());
+    }
+
+    @Test
+    void createBookingAsync_WithAutoSelect_ShouldAssignRoomReservedByHotelService() {
+        // Arrange
+        BookingRequest autoSelectRequest = BookingRequest.builder()
+                .hotelId(1L)
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(3))
+                .autoSelect(true)
+                .build();
+        Booking pending = Booking.builder()
+                .id(1L)
+                .user(testUser)
+                .hotelId(1L)
+                .startDate(autoSelectRequest.getStartDate())
+                .endDate(autoSelectRequest.getEndDate())
+                .status(Booking.BookingStatus.PENDING)
+                .requestId("test-request-id")
+                .build();
+
+        when(userService.getUserByUsername("testuser")).thenReturn(testUser);
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(i -> {
+            Booking booking = i.getArgument(0);
+            booking.setId(1L);
+            return booking;
+        });
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(pending));
+        when(hotelClient.reserveAnyRoom(eq(1L), any())).thenReturn(ConfirmAvailabilityResponse.builder()
+                .available(true)
+                .reservationId(1L)
+                .roomId(7L)
+                .build());
+        when(bookingRepository.updateStatusIfCurrent(1L, Booking.BookingStatus.PENDING,
+                Booking.BookingStatus.CONFIRMED)).thenReturn(1);
+        doAnswer(i -> {
+            ((Runnable) i.getArgument(0)).run();
+            return null;
+        }).when(bookingSagaExecutor).execute(any());
+
+        // Act
+        BookingResponse response = bookingService.createBookingAsync(autoSelectRequest, "testuser");
+
+        // Assert
+        assertNull(response.getRoomId());
+        verify(bookingRepository).assignRoomIfUnset(1L, 7L);
+        verify(hotelClient, never()).confirmAvailability(anyLong(), any());
+        verify(outboxService, never()).enqueueRelease(any());
+    }
+
+    @Test
+    void createBookingAsync_WhenHotelServiceFails_ShouldCancelAndRelease() {
+        // Arrange
+        Booking pending = Booking.builder()
+                .id(1L)
+                .user(testUser)
+                .roomId(1L)
+                .startDate(validRequest.getStartDate())
+                .endDate(validRequest.getEndDate())
+                .status(Booking.BookingStatus.PENDING)
+                .requestId("test-request-id")
+                .build();
+
+        when(userService.getUserByUsername("testuser")).thenReturn(testUser);
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(i -> {
+            Booking booking = i.getArgument(0);
+            booking.setId(1L);
+            return booking;
+        });
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(pending));
+        when(hotelClient.confirmAvailability(eq(1L), any())).thenThrow(new RuntimeException("Service unavailable"));
+        doAnswer(i -> {
+            ((Runnable) i.getArgument(0)).run();
+            return null;
+        }).when(bookingSagaExecutor).execute(any());
+
+        // Act
+        bookingService.createBookingAsync(validRequest, "testuser");
+
+        // Assert
+        verify(bookingRepository).updateStatusIfCurrent(1L, Booking.BookingStatus.PENDING,
+                Booking.BookingStatus.CANCELLED);
+        verify(outboxService).enqueueRelease(pending);
+    }
+
+    @Test
+    void createBookingAsync_WhenCancelledDuringConfirmation_ShouldReleaseReservation() {
+        // Arrange
+        Booking pending = Booking.builder()
+                .id(1L)
+                .user(testUser)
+                .roomId(1L)
+                .startDate(validRequest.getStartDate())
+                .endDate(validRequest.getEndDate())
+                .status(Booking.BookingStatus.PENDING)
+                .requestId("test-request-id")
+                .build();
+
+        when(userService.getUserByUsername("testuser")).thenReturn(testUser);
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(i -> {
+            Booking booking = i.getArgument(0);
+            booking.setId(1L);
+            return booking;
+        });
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(pending));
+        when(hotelClient.confirmAvailability(eq(1L), any())).thenReturn(ConfirmAvailabilityResponse.builder()
+                .available(true)
+                .build());
+        when(bookingRepository.updateStatusIfCurrent(eq(1L), eq(Booking.BookingStatus.PENDING), any()))
+                .thenReturn(0); // user cancelled meanwhile
+        doAnswer(i -> {
+            ((Runnable) i.getArgument(0)).run();
+            return null;
+        }).when(bookingSagaExecutor).execute(any());
+
+        // Act
+        bookingService.createBookingAsync(validRequest, "testuser");
+
+        // Assert
+        verify(outboxService).enqueueRelease(pending);
+    }
+
+    @Test
+    void createBookingAsync_WhenExecutorSaturated_ShouldCancelBooking() {
+        // Arrange
+        when(userService.getUserByUsername("testuser")).thenReturn(testUser);
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(i -> {
+            Booking booking = i.getArgument(0);
+            booking.setId(1L);
+            return booking;
+        });
+        doThrow(new RejectedExecutionException("full")).when(bookingSagaExecutor).execute(any());
+
+        // Act
+        bookingService.createBookingAsync(validRequest, "testuser");
+
+        // Assert
+        verify(bookingRepository).updateStatusIfCurrent(1L, Booking.BookingStatus.PENDING,
+                Booking.BookingStatus.CANCELLED);
+        verify(hotelClient, never()).confirmAvailability(anyLong(), any());
+    }
+
+    @Test
+    void createGroupBooking_WithAllRoomsAvailable_ShouldConfirmAllBookings() {
+        // Arrange
+        GroupBookingRequest groupRequest = GroupBookingRequest.builder()
+                .roomIds(List.of(1L, 2L, 3L))
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(3))
+                .build();
+
+        when(userService.getUserByUsername("testuser")).thenReturn(testUser);
+        when(bookingRepository.saveAll(any())).thenAnswer(i -> {
+            List<Booking> bookings = i.getArgument(0);
+            for (int n = 0; n < bookings.size(); n++) {
+                bookings.get(n).setId(n + 1L);
+            }
+            return bookings;
+        });
+        when(hotelClient.confirmAvailabilityBatch(any())).thenReturn(BatchConfirmAvailabilityResponse.builder()
+                .available(true)
+                .build());
+
+        // Act
+        List<BookingResponse> responses = bookingService.createGroupBooking(groupRequest, "testuser");
+
+        // Assert
+        assertEquals(3, responses.size());
+        assertTrue(responses.stream().allMatch(r -> r.getStatus() == Booking.BookingStatus.CONFIRMED));
+        ArgumentCaptor<BatchConfirmAvailabilityRequest> captor =
+                ArgumentCaptor.forClass(BatchConfirmAvailabilityRequest.class);
+        verify(hotelClient).confirmAvailabilityBatch(captor.capture());
+        assertEquals(3, captor.getValue().getItems().size());
+        assertEquals(3L, captor.getValue().getItems().get(2).getRoomId());
+        verify(hotelClient, never()).confirmAvailability(anyLong(), any());
+    }
+
+    @Test
+    void createGroupBooking_WhenAnyRoomNotAvailable_ShouldCancelAllBookings() {
+        // Arrange
+        GroupBookingRequest groupRequest = GroupBookingRequest.builder()
+                .roomIds(List.of(1L, 2L))
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(3))
+                .build();
+
+        when(userService.getUserByUsername("testuser")).thenReturn(testUser);
+        when(bookingRepository.saveAll(any())).thenAnswer(i -> i.getArgument(0));
+        when(hotelClient.confirmAvailabilityBatch(any())).thenReturn(BatchConfirmAvailabilityResponse.builder()
+                .available(false)
+                .build());
+
+        // Act & Assert
+        BookingException exception = assertThrows(BookingException.class, () ->
+                bookingService.createGroupBooking(groupRequest, "testuser")
+        );
+        assertTrue(exception.getMessage().contains("not available"));
+
+        ArgumentCaptor<List<Booking>> captor = ArgumentCaptor.forClass(List.class);
+        verify(bookingRepository, atLeast(2)).saveAll(captor.capture());
+        assertTrue(captor.getValue().stream().allMatch(b -> b.getStatus() == Booking.BookingStatus.CANCELLED));
+        verify(outboxService, times(2)).enqueueRelease(any(Booking.class));
+    }
+
+    @Test
+    void createGroupBooking_WithDuplicateRooms_ShouldThrowException() {
+        // Arrange
+        GroupBookingRequest groupRequest = GroupBookingRequest.builder()
+                .roomIds(List.of(1L, 1L))
+                .startDate(LocalDate.now().plusDays(1))
+                .endDate(LocalDate.now().plusDays(3))
+                .build();
+
+        // Act & Assert
+        BookingException exception = assertThrows(BookingException.class, () ->
+                bookingService.createGroupBooking(groupRequest, "testuser")
+        );
+        assertTrue(exception.getMessage().contains("unique"));
+        verify(hotelClient, never()).confirmAvailabilityBatch(any());
+    }
+
     @Test
     void createBooking_WithPastStartDate_ShouldThrowException() {
         // Arrange
@@ -253,25 +537,94 @@ class BookingServiceTest {
     }
 
     @Test
-    void getUserBookings_ShouldReturnUserBookings() {
+    void getUserBookings_FirstPage_ShouldReturnNextCursor() {
+        // Arrange
+        Booking older = Booking.builder()
+                .id(2L)
+                .user(testUser)
+                .roomId(2L)
+                .status(Booking.BookingStatus.CONFIRMED)
+                .createdAt(testBooking.getCreatedAt().minusHours(1))
+                .build();
+        when(userService.getUserByUsername("testuser")).thenReturn(testUser);
+        when(bookingRepository.findFirstPageByUser(testUser, Limit.of(2)))
+                .thenReturn(Arrays.asList(responseOf(testBooking), responseOf(older)));
+
+        // Act
+        BookingPage page = bookingService.getUserBookings("testuser", null, 1, false);
+
+        // Assert
+        assertEquals(1, page.getContent().size());
+        assertEquals(testBooking.getId(), page.getContent().get(0).getId());
+        assertEquals("testuser", page.getContent().get(0).getUsername());
+        assertNotNull(page.getNextCursor());
+        assertNull(page.getTotalElements());
+        verify(bookingRepository, never()).countByUser(any());
+    }
+
+    @Test
+    void getUserBookings_WithCursor_ShouldContinueAfterLastRow() {
+        // Arrange
+        when(userService.getUserByUsername("testuser")).thenReturn(testUser);
+        when(bookingRepository.findFirstPageByUser(testUser, Limit.of(2)))
+                .thenReturn(Arrays.asList(responseOf(testBooking), responseOf(testBooking)));
+        String cursor = bookingService.getUserBookings("testuser", null, 1, false).getNextCursor();
+        when(bookingRepository.findPageByUserAfter(testUser, testBooking.getCreatedAt(), 1L, Limit.of(21)))
+                .thenReturn(List.of());
+        when(bookingRepository.countByUser(testUser)).thenReturn(1L);
+
+        // Act
+        BookingPage page = bookingService.getUserBookings("testuser", cursor, 20, true);
+
+        // Assert
+        assertTrue(page.getContent().isEmpty());
+        assertNull(page.getNextCursor());
+        assertEquals(1L, page.getTotalElements());
+    }
+
+    @Test
+    void getUserBookings_WithInvalidCursor_ShouldThrowException() {
         // Arrange
-        List<Booking> bookings = Arrays.asList(testBooking);
         when(userService.getUserByUsername("testuser")).thenReturn(testUser);
-        when(bookingRepository.findByUserOrderByCreatedAtDesc(testUser)).thenReturn(bookings);
+
+        // Act & Assert
+        assertThrows(BookingException.class, () ->
+                bookingService.getUserBookings("testuser", "not-a-cursor", 20, false)
+        );
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    void getUserBookings_WithTooLargePage_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(BookingException.class, () ->
+                bookingService.getUserBookings("testuser", null, BookingService.MAX_PAGE_SIZE + 1, false)
+        );
+    }
+
+    @Test
+    void writeUserBookings_ShouldStreamJsonArray() throws Exception {
+        // Arrange
+        when(userService.getUserByUsername("testuser")).thenReturn(testUser);
+        when(bookingRepository.findFirstPageByUser(testUser, Limit.of(BookingService.STREAM_BATCH_SIZE)))
+                .thenReturn(List.of(responseOf(testBooking)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
 
         // Act
-        List<BookingResponse> responses = bookingService.getUserBookings("testuser");
+        bookingService.writeUserBookings("testuser", out);
 
         // Assert
-        assertNotNull(responses);
-        assertEquals(1, responses.size());
-        assertEquals(testBooking.getId(), responses.get(0).getId());
+        JsonNode json = objectMapper.readTree(out.toByteArray());
+        assertTrue(json.isArray());
+        assertEquals(1, json.size());
+        assertEquals(1L, json.get(0).get("id").asLong());
+        verify(bookingRepository, never()).findPageByUserAfter(any(), any(), any(), any());
     }
 
     @Test
     void getBookingById_WithValidId_ShouldReturnBooking() {
         // Arrange
-        when(bookingRepository.findById(1L)).thenReturn(Optional.of(testBooking));
+        when(bookingRepository.findResponseById(1L)).thenReturn(Optional.of(responseOf(testBooking)));
 
         // Act
         BookingResponse response = bookingService.getBookingById(1L, "testuser");
@@ -284,7 +637,7 @@ class BookingServiceTest {
     @Test
     void getBookingById_WithWrongUser_ShouldThrowException() {
         // Arrange
-        when(bookingRepository.findById(1L)).thenReturn(Optional.of(testBooking));
+        when(bookingRepository.findResponseById(1L)).thenReturn(Optional.of(responseOf(testBooking)));
 
         // Act & Assert
         BookingException exception = assertThrows(BookingException.class, () ->
@@ -296,7 +649,7 @@ class BookingServiceTest {
     @Test
     void getBookingById_WithNonExistentId_ShouldThrowException() {
         // Arrange
-        when(bookingRepository.findById(999L)).thenReturn(Optional.empty());
+        when(bookingRepository.findResponseById(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () ->
@@ -315,7 +668,7 @@ class BookingServiceTest {
 
         // Assert
         verify(bookingRepository).save(testBooking);
-        verify(hotelClient).releaseReservation(anyLong(), any());
+        verify(outboxService).enqueueRelease(testBooking);
         assertEquals(Booking.BookingStatus.CANCELLED, testBooking.getStatus());
     }
 
@@ -343,4 +696,9 @@ class BookingServiceTest {
         );
         assertTrue(exception.getMessage().contains("Access denied"));
     }
+
+    // What BookingRepository's constructor expressions select for a booking
+    private BookingResponse responseOf(Booking booking) {
+        return bookingService.mapToResponse(booking);
+    }
 }
@@ -0,0 +1,130 @@
+package com.booking.service.service;
+
+import com.booking.service.client.HotelClient;
+import com.booking.service.entity.OutboxMessage;
+import com.booking.service.repository.OutboxMessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+
+    @Mock
+    private OutboxMessageRepository outboxRepository;
+
+    @Mock
+    private HotelClient hotelClient;
+
+    @InjectMocks
+    private OutboxDispatcher outboxDispatcher;
+
+    private OutboxMessage message;
+
+    @BeforeEach
+    void setUp() {
+        message = OutboxMessage.builder()
+                .id(1L)
+                .type(OutboxMessage.MessageType.RELEASE_RESERVATION)
+                .bookingId(10L)
+                .roomId(5L)
+                .requestId("test-request-id")
+                .status(OutboxMessage.MessageStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+
+        when(outboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                eq(OutboxMessage.MessageStatus.PENDING), any(), any()))
+                .thenReturn(List.of(message));
+    }
+
+    @Test
+    void dispatchPending_WhenReleaseSucceeds_ShouldMarkSent() {
+        // Act
+        outboxDispatcher.dispatchPending();
+
+        // Assert
+        verify(hotelClient).releaseReservation(eq(5L), argThat(r ->
+                r.getBookingId().equals(10L) && "test-request-id".equals(r.getRequestId())));
+        assertEquals(OutboxMessage.MessageStatus.SENT, message.getStatus());
+        assertNotNull(message.getProcessedAt());
+        verify(outboxRepository).saveAll(List.of(message));
+    }
+
+    @Test
+    void dispatchPending_WithoutRoom_ShouldReleaseByBooking() {
+        // Arrange
+        message.setRoomId(null);
+
+        // Act
+        outboxDispatcher.dispatchPending();
+
+        // Assert
+        verify(hotelClient).releaseBookingReservation(argThat(r -> r.getBookingId().equals(10L)));
+        verify(hotelClient, never()).releaseReservation(any(), any());
+        assertEquals(OutboxMessage.MessageStatus.SENT, message.getStatus());
+    }
+
+    @Test
+    void dispatchPending_WhenReleaseFails_ShouldScheduleRetry() {
+        // Arrange
+        doThrow(new RuntimeException("Service unavailable"))
+                .when(hotelClient).releaseReservation(any(), any());
+        LocalDateTime before = LocalDateTime.now();
+
+        // Act
+        outboxDispatcher.dispatchPending();
+
+        // Assert
+        assertEquals(OutboxMessage.MessageStatus.PENDING, message.getStatus());
+        assertEquals(1, message.getAttempts());
+        assertEquals("Service unavailable", message.getLastError());
+        assertTrue(message.getNextAttemptAt().isAfter(before));
+    }
+
+    @Test
+    void dispatchPending_AfterManyFailures_ShouldKeepRetryingAtMaxBackoff() {
+        // Arrange
+        message.setAttempts(50);
+        doThrow(new RuntimeException("Service unavailable"))
+                .when(hotelClient).releaseReservation(any(), any());
+        LocalDateTime before = LocalDateTime.now();
+
+        // Act
+        outboxDispatcher.dispatchPending();
+
+        // Assert
+        assertEquals(OutboxMessage.MessageStatus.PENDING, message.getStatus());
+        assertEquals(51, message.getAttempts());
+        assertNull(message.getProcessedAt());
+        assertFalse(message.getNextAttemptAt().isBefore(before.plusMinutes(5)));
+        assertFalse(message.getNextAttemptAt().isAfter(LocalDateTime.now().plusMinutes(5)));
+    }
+
+    @Test
+    void dispatchPending_AfterOutage_ShouldDeliverLongRetriedMessage() {
+        // Arrange
+        message.setAttempts(50);
+
+        // Act
+        outboxDispatcher.dispatchPending();
+
+        // Assert
+        verify(hotelClient).releaseReservation(eq(5L), any());
+        assertEquals(OutboxMessage.MessageStatus.SENT, message.getStatus());
+        assertNotNull(message.getProcessedAt());
+    }
+}
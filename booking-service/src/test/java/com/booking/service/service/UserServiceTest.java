@@ -7,14 +7,17 @@ import com.booking.service.entity.User;
 import com.booking.service.exception.ResourceAlreadyExistsException;
 import com.booking.service.exception.ResourceNotFoundException;
 import com.booking.service.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -32,6 +35,9 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Spy
+    private UserCache userCache = new UserCache(true, 100, Duration.ofSeconds(30), new SimpleMeterRegistry());
+
     @InjectMocks
     private UserService userService;
 
@@ -115,6 +121,7 @@ class UserServiceTest {
         assertEquals("updateduser", result.getUsername());
         assertEquals(User.Role.ADMIN, result.getRole());
         verify(userRepository).save(testUser);
+        verify(userCache).evict(1L);
     }
 
     @Test
@@ -159,6 +166,7 @@ class UserServiceTest {
 
         // Assert
         verify(userRepository).deleteById(1L);
+        verify(userCache).evict(1L);
     }
 
     @Test
@@ -196,4 +204,37 @@ class UserServiceTest {
                 () -> userService.getUserByUsername("nonexistent")
         );
     }
+
+    @Test
+    void getUserByUsername_WhenCalledTwice_ShouldQueryOnce() {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+
+        // Act
+        userService.getUserByUsername("testuser");
+        User result = userService.getUserByUsername("testuser");
+
+        // Assert
+        assertSame(testUser, result);
+        verify(userRepository, times(1)).findByUsername("testuser");
+    }
+
+    @Test
+    void getUserByUsername_AfterDelete_ShouldQueryAgain() {
+        // Arrange
+        when(userRepository.findByUsername("testuser"))
+                .thenReturn(Optional.of(testUser))
+                .thenReturn(Optional.empty());
+        when(userRepository.existsById(1L)).thenReturn(true);
+        userService.getUserByUsername("testuser");
+
+        // Act
+        userService.deleteUser(1L);
+
+        // Assert
+        assertThrows(ResourceNotFoundException.class,
+                () -> userService.getUserByUsername("testuser")
+        );
+        verify(userRepository, times(2)).findByUsername("testuser");
+    }
 }
@@ -0,0 +1,27 @@
+package com.booking.hotel.config;
+
+import com.booking.hotel.entity.RoomReservation;
+import com.booking.hotel.repository.RoomReservationRepository;
+import com.booking.hotel.service.AvailabilityIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AvailabilityIndexLoader {
+
+    private final RoomReservationRepository reservationRepository;
+    private final AvailabilityIndex availabilityIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadIndex() {
+        log.info("Loading availability index from active reservations...");
+        availabilityIndex.load(reservationRepository.findByStatusNot(RoomReservation.ReservationStatus.RELEASED));
+    }
+}
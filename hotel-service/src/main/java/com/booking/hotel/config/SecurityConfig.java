@@ -1,6 +1,7 @@
 package com.booking.hotel.config;
 
 import com.booking.hotel.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -26,12 +27,17 @@ public class SecurityConfig {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
+                        // Streamed exports finish on an async dispatch of an already authorized request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/h2-console/**").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/hotels").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.POST, "/api/rooms").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/hotels", "/api/rooms/**").hasAnyRole("USER", "ADMIN")
-                        .requestMatchers("/api/rooms/*/confirm-availability", "/api/rooms/*/release").permitAll() // Internal endpoints
+                        // Internal endpoints: only booking-service signs identity headers with ROLE_SERVICE
+                        .requestMatchers("/api/rooms/*/confirm-availability", "/api/rooms/*/release",
+                                "/api/rooms/confirm-availability/batch", "/api/rooms/reserve",
+                                "/api/rooms/release").hasRole("SERVICE")
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(session -> session
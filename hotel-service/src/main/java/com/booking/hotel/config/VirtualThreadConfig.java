@@ -0,0 +1,68 @@
+package com.booking.hotel.config;
+
+import com.booking.hotel.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Active with spring.threads.virtual.enabled=true, where Boot runs Tomcat requests on
+// virtual threads and Tomcat's thread pool no longer caps how many are in flight.
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    // Excess requests park on a semaphore instead of timing out on the Hikari pool, for at most
+    // acquire-timeout before they get 503
+    @Bean
+    public FilterRegistrationBean<Filter> concurrencyLimitFilter(
+            @Value("${hotel.virtual-threads.max-concurrent-requests:200}") int maxConcurrentRequests,
+            @Value("${hotel.virtual-threads.acquire-timeout:5s}") Duration acquireTimeout,
+            ObjectMapper objectMapper) {
+        Semaphore permits = new Semaphore(maxConcurrentRequests, true);
+        FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>((request, response, chain) -> {
+            boolean acquired;
+            try {
+                acquired = permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+            if (!acquired) {
+                // Parked past the timeout (or interrupted on shutdown): the client retries elsewhere
+                HttpServletResponse httpResponse = (HttpServletResponse) response;
+                httpResponse.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+                httpResponse.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                httpResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                objectMapper.writeValue(httpResponse.getOutputStream(), ErrorResponse.builder()
+                        .timestamp(LocalDateTime.now())
+                        .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                        .error("Service Unavailable")
+                        .message("Too many requests in progress, please retry")
+                        .build());
+                return;
+            }
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                permits.release();
+            }
+        });
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
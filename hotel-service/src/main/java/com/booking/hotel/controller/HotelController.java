@@ -3,6 +3,7 @@ package com.booking.hotel.controller;
 import com.booking.hotel.dto.HotelCreateRequest;
 import com.booking.hotel.dto.HotelDTO;
 import com.booking.hotel.dto.HotelStatisticsDTO;
+import com.booking.hotel.service.CatalogVersion;
 import com.booking.hotel.service.HotelService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -24,19 +25,27 @@ import java.util.List;
 public class HotelController {
 
     private final HotelService hotelService;
+    private final CatalogVersion catalogVersion;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Create hotel", description = "Create a new hotel (ADMIN only)")
     public ResponseEntity<HotelDTO> createHotel(@Valid @RequestBody HotelCreateRequest request) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(hotelService.createHotel(request));
+        HotelDTO hotel = hotelService.createHotel(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(CatalogVersion.HEADER, String.valueOf(catalogVersion.current()))
+                .body(hotel);
     }
 
     @GetMapping
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
     @Operation(summary = "Get all hotels", description = "Get list of all hotels")
     public ResponseEntity<List<HotelDTO>> getAllHotels() {
-        return ResponseEntity.ok(hotelService.getAllHotels());
+        // Read before the query: a change committed meanwhile makes this response stale, not newer
+        long version = catalogVersion.current();
+        return ResponseEntity.ok()
+                .header(CatalogVersion.HEADER, String.valueOf(version))
+                .body(hotelService.getAllHotels());
     }
 
     @GetMapping("/statistics")
@@ -2,6 +2,7 @@ package com.booking.hotel.controller;
 
 import com.booking.hotel.dto.RoomCreateRequest;
 import com.booking.hotel.dto.RoomDTO;
+import com.booking.hotel.service.CatalogVersion;
 import com.booking.hotel.service.RoomService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -25,12 +26,16 @@ import java.util.List;
 public class RoomController {
 
     private final RoomService roomService;
+    private final CatalogVersion catalogVersion;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Create room", description = "Create a new room in a hotel (ADMIN only)")
     public ResponseEntity<RoomDTO> createRoom(@Valid @RequestBody RoomCreateRequest request) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(roomService.createRoom(request));
+        RoomDTO room = roomService.createRoom(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(CatalogVersion.HEADER, String.valueOf(catalogVersion.current()))
+                .body(room);
     }
 
     @GetMapping
@@ -39,7 +44,10 @@ public class RoomController {
     public ResponseEntity<List<RoomDTO>> getAvailableRooms(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        return ResponseEntity.ok(roomService.getAvailableRooms(startDate, endDate));
+        long version = catalogVersion.current();
+        return ResponseEntity.ok()
+                .header(CatalogVersion.HEADER, String.valueOf(version))
+                .body(roomService.getAvailableRooms(startDate, endDate));
     }
 
     @GetMapping("/recommend")
@@ -49,6 +57,9 @@ public class RoomController {
             @RequestParam Long hotelId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        return ResponseEntity.ok(roomService.getRecommendedRooms(hotelId, startDate, endDate));
+        long version = catalogVersion.current();
+        return ResponseEntity.ok()
+                .header(CatalogVersion.HEADER, String.valueOf(version))
+                .body(roomService.getRecommendedRooms(hotelId, startDate, endDate));
     }
 }
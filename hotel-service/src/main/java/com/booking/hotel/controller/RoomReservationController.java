@@ -1,15 +1,23 @@
 package com.booking.hotel.controller;
 
+import com.booking.hotel.dto.BatchConfirmAvailabilityRequest;
+import com.booking.hotel.dto.BatchConfirmAvailabilityResponse;
 import com.booking.hotel.dto.ConfirmAvailabilityRequest;
 import com.booking.hotel.dto.ConfirmAvailabilityResponse;
+import com.booking.hotel.dto.ExportFormat;
 import com.booking.hotel.dto.ReleaseReservationRequest;
+import com.booking.hotel.service.ReservationExportService;
 import com.booking.hotel.service.RoomReservationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/rooms")
@@ -18,6 +26,7 @@ import org.springframework.web.bind.annotation.*;
 public class RoomReservationController {
 
     private final RoomReservationService reservationService;
+    private final ReservationExportService exportService;
 
     @PostMapping("/{roomId}/confirm-availability")
     @Operation(summary = "Confirm room availability", description = "Internal endpoint to confirm and reserve room availability")
@@ -27,6 +36,39 @@ public class RoomReservationController {
         return ResponseEntity.ok(reservationService.confirmAvailability(roomId, request));
     }
 
+    @PostMapping("/confirm-availability/batch")
+    @Operation(summary = "Confirm availability for several rooms",
+            description = "Internal endpoint to reserve several rooms at once; either all reservations are created or none")
+    public ResponseEntity<BatchConfirmAvailabilityResponse> confirmAvailabilityBatch(
+            @Valid @RequestBody BatchConfirmAvailabilityRequest request) {
+        return ResponseEntity.ok(reservationService.confirmAvailabilityBatch(request));
+    }
+
+    @PostMapping("/reserve")
+    @Operation(summary = "Reserve any room in a hotel",
+            description = "Internal endpoint that picks and reserves one of the least booked free rooms of the hotel in a single call")
+    public ResponseEntity<ConfirmAvailabilityResponse> reserveAnyRoom(
+            @RequestParam Long hotelId,
+            @Valid @RequestBody ConfirmAvailabilityRequest request) {
+        return ResponseEntity.ok(reservationService.reserveAnyRoom(hotelId, request));
+    }
+
+    @GetMapping("/reservations/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Export all room reservations",
+            description = "Streams every reservation as NDJSON or CSV; gzip-compressed with Accept-Encoding: gzip")
+    public ResponseEntity<StreamingResponseBody> exportReservations(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        StreamingResponseBody body = out -> exportService.exportReservations(format, out);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("room_reservations." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     @PostMapping("/{roomId}/release")
     @Operation(summary = "Release reservation", description = "Internal endpoint to release a room reservation")
     public ResponseEntity<Void> releaseReservation(
@@ -35,4 +77,12 @@ public class RoomReservationController {
         reservationService.releaseReservation(roomId, request);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/release")
+    @Operation(summary = "Release reservation by booking",
+            description = "Internal endpoint to release the reservation of a booking whose room is not known to the caller")
+    public ResponseEntity<Void> releaseReservation(@Valid @RequestBody ReleaseReservationRequest request) {
+        reservationService.releaseReservation(null, request);
+        return ResponseEntity.noContent().build();
+    }
 }
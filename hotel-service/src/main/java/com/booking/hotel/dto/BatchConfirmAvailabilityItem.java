@@ -0,0 +1,32 @@
+package com.booking.hotel.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchConfirmAvailabilityItem {
+
+    @NotNull(message = "Room ID is required")
+    private Long roomId;
+
+    @NotBlank(message = "Request ID is required")
+    private String requestId;
+
+    @NotNull(message = "Booking ID is required")
+    private Long bookingId;
+
+    @NotNull(message = "Start date is required")
+    private LocalDate startDate;
+
+    @NotNull(message = "End date is required")
+    private LocalDate endDate;
+}
@@ -0,0 +1,21 @@
+package com.booking.hotel.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchConfirmAvailabilityRequest {
+
+    @Valid
+    @NotEmpty(message = "At least one reservation is required")
+    private List<BatchConfirmAvailabilityItem> items;
+}
@@ -0,0 +1,18 @@
+package com.booking.hotel.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchConfirmAvailabilityResponse {
+    private boolean available;
+    private String message;
+    private List<ConfirmAvailabilityResponse> results;
+}
@@ -13,4 +13,5 @@ public class ConfirmAvailabilityResponse {
     private boolean available;
     private String message;
     private Long reservationId;
+    private Long roomId;
 }
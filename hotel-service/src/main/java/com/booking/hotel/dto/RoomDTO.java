@@ -2,17 +2,19 @@ package com.booking.hotel.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
-@Data
+// Immutable: RoomQueryCache hands the same instances to every caller of a coalesced query.
+// Built directly by RoomRepository's JPQL constructor expressions, hence the public constructor.
+@Value
 @Builder
-@NoArgsConstructor
 @AllArgsConstructor
+@Jacksonized
 public class RoomDTO {
-    private Long id;
-    private Long hotelId;
-    private String number;
-    private Boolean available;
-    private Integer timesBooked;
+    Long id;
+    Long hotelId;
+    String number;
+    Boolean available;
+    Integer timesBooked;
 }
@@ -0,0 +1,26 @@
+package com.booking.hotel.dto;
+
+import com.booking.hotel.entity.RoomReservation;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomReservationDTO {
+    private Long id;
+    private Long roomId;
+    private Long bookingId;
+    private String requestId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private RoomReservation.ReservationStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
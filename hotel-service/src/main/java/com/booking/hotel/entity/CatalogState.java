@@ -0,0 +1,25 @@
+package com.booking.hotel.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * The single row holding the catalogue version, shared by all hotel-service instances.
+ */
+@Entity
+@Table(name = "catalog_state")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CatalogState {
+
+    public static final long ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long version;
+}
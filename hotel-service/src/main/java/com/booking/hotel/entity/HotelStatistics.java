@@ -0,0 +1,52 @@
+package com.booking.hotel.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Counters behind the statistics endpoints, updated in the same transaction as the rooms and
+ * reservations they summarize and periodically reconciled against them.
+ */
+@Entity
+@Table(name = "hotel_statistics")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HotelStatistics {
+
+    @Id
+    private Long hotelId;
+
+    @Column(nullable = false, length = 100)
+    private String hotelName;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long totalRooms = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long availableRooms = 0L;
+
+    // Sum of rooms.times_booked; the average is derived on read
+    @Column(nullable = false)
+    @Builder.Default
+    private Long totalTimesBooked = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long confirmedReservations = 0L;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -19,8 +19,10 @@ import java.time.LocalDateTime;
 @Builder
 public class RoomReservation {
 
+    // Sequence ids (not IDENTITY) let Hibernate group inserts into JDBC batches
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_reservation_seq")
+    @SequenceGenerator(name = "room_reservation_seq", sequenceName = "room_reservation_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
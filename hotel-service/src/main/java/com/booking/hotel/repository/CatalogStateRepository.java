@@ -0,0 +1,21 @@
+package com.booking.hotel.repository;
+
+import com.booking.hotel.entity.CatalogState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CatalogStateRepository extends JpaRepository<CatalogState, Long> {
+
+    @Query("SELECT c.version FROM CatalogState c WHERE c.id = :id")
+    Optional<Long> findVersion(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE CatalogState c SET c.version = c.version + 1 WHERE c.id = :id")
+    int increment(@Param("id") Long id);
+}
@@ -2,8 +2,29 @@ package com.booking.hotel.repository;
 
 import com.booking.hotel.entity.Hotel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface HotelRepository extends JpaRepository<Hotel, Long> {
+
+    // Room aggregates come from the join; confirmed reservations from a correlated subquery,
+    // so a hotel's row count is not multiplied by its reservations
+    String STATISTICS_SELECT = "SELECT h.id AS hotelId, h.name AS hotelName, " +
+            "COUNT(r.id) AS totalRooms, " +
+            "COALESCE(SUM(CASE WHEN r.available = true THEN 1L ELSE 0L END), 0L) AS availableRooms, " +
+            "COALESCE(SUM(r.timesBooked), 0L) AS totalTimesBooked, " +
+            "(SELECT COUNT(rr) FROM RoomReservation rr WHERE rr.room.hotel.id = h.id AND " +
+            "rr.status = 'CONFIRMED') AS confirmedReservations " +
+            "FROM Hotel h LEFT JOIN h.rooms r ";
+
+    @Query(STATISTICS_SELECT + "GROUP BY h.id, h.name ORDER BY h.id")
+    List<HotelStatisticsView> findAllStatistics();
+
+    @Query(STATISTICS_SELECT + "WHERE h.id = :hotelId GROUP BY h.id, h.name")
+    Optional<HotelStatisticsView> findStatisticsByHotelId(@Param("hotelId") Long hotelId);
 }
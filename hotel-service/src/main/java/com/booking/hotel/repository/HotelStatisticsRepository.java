@@ -0,0 +1,41 @@
+package com.booking.hotel.repository;
+
+import com.booking.hotel.entity.HotelStatistics;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface HotelStatisticsRepository extends JpaRepository<HotelStatistics, Long> {
+
+    List<HotelStatistics> findAllByOrderByHotelIdAsc();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM HotelStatistics s WHERE s.hotelId = :hotelId")
+    Optional<HotelStatistics> findByIdForUpdate(@Param("hotelId") Long hotelId);
+
+    // Relative updates, so concurrent confirms for different rooms of one hotel do not overwrite each other
+    @Modifying
+    @Query("UPDATE HotelStatistics s SET s.totalRooms = s.totalRooms + 1, " +
+           "s.availableRooms = s.availableRooms + :available, s.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE s.hotelId = :hotelId")
+    int incrementRooms(@Param("hotelId") Long hotelId, @Param("available") long available);
+
+    @Modifying
+    @Query("UPDATE HotelStatistics s SET s.confirmedReservations = s.confirmedReservations + :count, " +
+           "s.totalTimesBooked = s.totalTimesBooked + :count, s.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE s.hotelId = :hotelId")
+    int incrementConfirmed(@Param("hotelId") Long hotelId, @Param("count") long count);
+
+    @Modifying
+    @Query("UPDATE HotelStatistics s SET s.confirmedReservations = s.confirmedReservations - 1, " +
+           "s.updatedAt = CURRENT_TIMESTAMP WHERE s.hotelId = :hotelId")
+    int decrementConfirmed(@Param("hotelId") Long hotelId);
+}
@@ -0,0 +1,20 @@
+package com.booking.hotel.repository;
+
+/**
+ * Per-hotel aggregates computed from the source tables by {@link HotelRepository} in a single
+ * grouped query; used to rebuild and reconcile the {@code hotel_statistics} counters.
+ */
+public interface HotelStatisticsView {
+
+    Long getHotelId();
+
+    String getHotelName();
+
+    Long getTotalRooms();
+
+    Long getAvailableRooms();
+
+    Long getTotalTimesBooked();
+
+    Long getConfirmedReservations();
+}
@@ -1,5 +1,6 @@
 package com.booking.hotel.repository;
 
+import com.booking.hotel.dto.RoomDTO;
 import com.booking.hotel.entity.Room;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -14,12 +15,18 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
 
     List<Room> findByHotelIdAndAvailableTrue(Long hotelId);
 
-    @Query("SELECT r FROM Room r WHERE r.available = true AND " +
+    // Read paths build RoomDTO in the query: no managed rooms, no snapshots and no hotel proxies
+    @Query("SELECT new com.booking.hotel.dto.RoomDTO(r.id, r.hotel.id, r.number, r.available, r.timesBooked) " +
+           "FROM Room r WHERE r.available = true")
+    List<RoomDTO> findAvailableRoomDTOs();
+
+    @Query("SELECT new com.booking.hotel.dto.RoomDTO(r.id, r.hotel.id, r.number, r.available, r.timesBooked) " +
+           "FROM Room r WHERE r.available = true AND " +
            "NOT EXISTS (SELECT rr FROM RoomReservation rr WHERE rr.room.id = r.id AND " +
            "rr.status <> 'RELEASED' AND " +
            "((rr.startDate <= :endDate AND rr.endDate >= :startDate)))")
-    List<Room> findAvailableRoomsForDates(@Param("startDate") LocalDate startDate,
-                                           @Param("endDate") LocalDate endDate);
+    List<RoomDTO> findAvailableRoomDTOsForDates(@Param("startDate") LocalDate startDate,
+                                                @Param("endDate") LocalDate endDate);
 
     @Query("SELECT r FROM Room r WHERE r.available = true AND r.hotel.id = :hotelId AND " +
            "NOT EXISTS (SELECT rr FROM RoomReservation rr WHERE rr.room.id = r.id AND " +
@@ -30,6 +37,16 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
                                              @Param("startDate") LocalDate startDate,
                                              @Param("endDate") LocalDate endDate);
 
+    @Query("SELECT new com.booking.hotel.dto.RoomDTO(r.id, r.hotel.id, r.number, r.available, r.timesBooked) " +
+           "FROM Room r WHERE r.available = true AND r.hotel.id = :hotelId AND " +
+           "NOT EXISTS (SELECT rr FROM RoomReservation rr WHERE rr.room.id = r.id AND " +
+           "rr.status <> 'RELEASED' AND " +
+           "((rr.startDate <= :endDate AND rr.endDate >= :startDate))) " +
+           "ORDER BY r.timesBooked ASC, r.id ASC")
+    List<RoomDTO> findRecommendedRoomDTOsForDates(@Param("hotelId") Long hotelId,
+                                                  @Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate);
+
     long countByAvailable(Boolean available);
 
     boolean existsByHotelIdAndNumber(Long hotelId, String number);
@@ -1,19 +1,45 @@
 package com.booking.hotel.repository;
 
 import com.booking.hotel.entity.RoomReservation;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface RoomReservationRepository extends JpaRepository<RoomReservation, Long> {
 
     Optional<RoomReservation> findByRequestId(String requestId);
 
+    List<RoomReservation> findByRequestIdIn(Collection<String> requestIds);
+
     Optional<RoomReservation> findByBookingId(Long bookingId);
 
     boolean existsByRequestId(String requestId);
 
-    long countByRoomIdAndStatus(Long roomId, RoomReservation.ReservationStatus status);
+    List<RoomReservation> findByStatusNot(RoomReservation.ReservationStatus status);
+
+    // Forward-only cursor over the whole table for exports; read-only entities skip dirty-checking snapshots
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT rr FROM RoomReservation rr ORDER BY rr.id")
+    Stream<RoomReservation> streamAll();
+
+    @Query("SELECT COUNT(rr) > 0 FROM RoomReservation rr WHERE rr.room.id = :roomId AND " +
+           "rr.status <> 'RELEASED' AND " +
+           "rr.startDate <= :endDate AND rr.endDate >= :startDate")
+    boolean existsOverlappingReservation(@Param("roomId") Long roomId,
+                                         @Param("startDate") LocalDate startDate,
+                                         @Param("endDate") LocalDate endDate);
 }
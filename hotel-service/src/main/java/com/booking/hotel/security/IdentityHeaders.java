@@ -0,0 +1,84 @@
+package com.booking.hotel.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Compact identity headers signed with {@code security.identity.secret}. The API gateway verifies
+ * the client's JWT once and forwards the result in these headers; services trust them after a
+ * single HMAC check instead of parsing the token again. booking-service signs the same headers
+ * for its calls to this service.
+ */
+@Component
+public class IdentityHeaders {
+
+    public static final String USER = "X-Auth-User";
+    public static final String ROLE = "X-Auth-Role";
+    public static final String EXPIRES = "X-Auth-Expires";
+    public static final String SIGNATURE = "X-Auth-Signature";
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+
+    public IdentityHeaders(@Value("${security.identity.secret}") String secret) {
+        this.key = new SecretKeySpec(Base64.getDecoder().decode(secret), ALGORITHM);
+    }
+
+    /**
+     * Returns the identity carried by the request's headers, or {@code null} if they are absent,
+     * malformed, expired or not signed with the shared secret.
+     */
+    public TokenCache.VerifiedToken verify(HttpServletRequest request) {
+        String signature = request.getHeader(SIGNATURE);
+        if (signature == null) {
+            return null;
+        }
+        String username = request.getHeader(USER);
+        String role = request.getHeader(ROLE);
+        String expires = request.getHeader(EXPIRES);
+        if (username == null || username.isEmpty() || role == null || expires == null) {
+            return null;
+        }
+        if (!MessageDigest.isEqual(signature(username, role, expires).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII))) {
+            return null;
+        }
+
+        TokenCache.VerifiedToken token;
+        try {
+            List<GrantedAuthority> authorities = role.isEmpty()
+                    ? List.of()
+                    : List.of(new SimpleGrantedAuthority(role));
+            token = new TokenCache.VerifiedToken(
+                    username, authorities, Instant.ofEpochSecond(Long.parseLong(expires)));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        return token.isExpired() ? null : token;
+    }
+
+    private String signature(String username, String role, String expires) {
+        try {
+            // Mac instances are not thread-safe; creating one from the prepared key is cheap
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            byte[] digest = mac.doFinal((username + "\n" + role + "\n" + expires).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot compute identity signature", e);
+        }
+    }
+}
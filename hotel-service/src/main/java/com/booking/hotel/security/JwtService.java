@@ -1,62 +1,82 @@
 package com.booking.hotel.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.List;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    // Built once; the parser is immutable and thread-safe
+    private final JwtParser parser;
+
+    public JwtService(@Value("${jwt.secret}") String secret) {
+        SecretKey signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
+    /**
+     * Verifies the signature and expiration once and returns all claims, so callers that need
+     * several of them do not parse the token again.
+     */
+    public Claims parseToken(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * Verifies the token into the principal data the JWT filter caches; {@code null} if the token
+     * carries no subject or is expired.
+     */
+    public TokenCache.VerifiedToken verify(String token) {
+        Claims claims = parseToken(token);
+        if (claims.getSubject() == null || !isTokenValid(claims)) {
+            return null;
+        }
+        String role = extractRole(claims);
+        return new TokenCache.VerifiedToken(
+                claims.getSubject(),
+                role != null ? List.of(new SimpleGrantedAuthority(role)) : List.of(),
+                claims.getExpiration().toInstant());
+    }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = parseToken(token);
         return claimsResolver.apply(claims);
     }
 
     public boolean isTokenValid(String token) {
         try {
-            return !isTokenExpired(token);
+            return isTokenValid(parseToken(token));
         } catch (Exception e) {
             return false;
         }
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean isTokenValid(Claims claims) {
+        return !claims.getExpiration().before(new Date());
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public String extractRole(String token) {
+        return extractRole(parseToken(token));
     }
 
-    public String extractRole(String token) {
-        Claims claims = extractAllClaims(token);
+    public String extractRole(Claims claims) {
         return claims.get("authorities", String.class);
     }
 }
@@ -0,0 +1,164 @@
+package com.booking.hotel.service;
+
+import com.booking.hotel.entity.RoomReservation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@Slf4j
+public class AvailabilityIndex {
+
+    private final Map<Long, RoomIntervals> rooms = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    @Value("${hotel.availability.index.verify:false}")
+    private boolean verify;
+
+    @Value("${hotel.availability.index.horizon-days:730}")
+    private int horizonDays = 730;
+
+    @Value("${hotel.availability.index.rebase-after-days:30}")
+    private int rebaseAfterDays = 30;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean isVerify() {
+        return verify;
+    }
+
+    public void load(Collection<RoomReservation> reservations) {
+        rooms.clear();
+        reservations.forEach(this::apply);
+        ready = true;
+        log.info("Availability index loaded: rooms={}, reservations={}", rooms.size(), reservations.size());
+    }
+
+    public boolean isAvailable(Long roomId, LocalDate startDate, LocalDate endDate) {
+        RoomIntervals intervals = rooms.get(roomId);
+        return intervals == null || !intervals.overlaps(startDate, endDate, LocalDate.now());
+    }
+
+    public void registerAfterCommit(RoomReservation reservation) {
+        Long roomId = reservation.getRoom().getId();
+        Long reservationId = reservation.getId();
+        LocalDate startDate = reservation.getStartDate();
+        LocalDate endDate = reservation.getEndDate();
+        boolean released = reservation.getStatus() == RoomReservation.ReservationStatus.RELEASED;
+
+        Runnable update = () -> apply(roomId, reservationId, startDate, endDate, released);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    private void apply(RoomReservation reservation) {
+        apply(reservation.getRoom().getId(), reservation.getId(), reservation.getStartDate(),
+                reservation.getEndDate(), reservation.getStatus() == RoomReservation.ReservationStatus.RELEASED);
+    }
+
+    private void apply(Long roomId, Long reservationId, LocalDate startDate, LocalDate endDate, boolean released) {
+        if (roomId == null || reservationId == null) {
+            return;
+        }
+        RoomIntervals intervals = rooms.computeIfAbsent(roomId,
+                id -> new RoomIntervals(LocalDate.now(), horizonDays, rebaseAfterDays));
+        if (released) {
+            intervals.remove(reservationId);
+        } else {
+            intervals.add(reservationId, startDate, endDate);
+        }
+    }
+
+    // Guarded by a ReentrantLock rather than synchronized: on JDK 21 a virtual thread waiting
+    // for a monitor pins its carrier thread, a waiting lock() does not
+    private static final class RoomIntervals {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ReservationIntervalTree tree = new ReservationIntervalTree();
+        private final Map<Long, LocalDate[]> ranges = new HashMap<>();
+        private final int horizonDays;
+        private final int rebaseAfterDays;
+        private RoomOccupancyBitmap bitmap;
+
+        RoomIntervals(LocalDate origin, int horizonDays, int rebaseAfterDays) {
+            this.horizonDays = horizonDays;
+            this.rebaseAfterDays = rebaseAfterDays;
+            this.bitmap = new RoomOccupancyBitmap(origin, horizonDays);
+        }
+
+        void add(Long reservationId, LocalDate startDate, LocalDate endDate) {
+            lock.lock();
+            try {
+                LocalDate[] previous = ranges.put(reservationId, new LocalDate[]{startDate, endDate});
+                if (previous != null) {
+                    tree.remove(reservationId, previous[0]);
+                    clearAndRestore(previous[0], previous[1]);
+                }
+                tree.insert(reservationId, startDate, endDate);
+                bitmap.set(startDate, endDate);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(Long reservationId) {
+            lock.lock();
+            try {
+                LocalDate[] previous = ranges.remove(reservationId);
+                if (previous != null) {
+                    tree.remove(reservationId, previous[0]);
+                    clearAndRestore(previous[0], previous[1]);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean overlaps(LocalDate startDate, LocalDate endDate, LocalDate today) {
+            lock.lock();
+            try {
+                if (today.minusDays(rebaseAfterDays).isAfter(bitmap.getOrigin())) {
+                    rebuildBitmap(today);
+                }
+                if (bitmap.covers(startDate, endDate)) {
+                    return bitmap.anySet(startDate, endDate);
+                }
+                return tree.overlaps(startDate, endDate);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Days of the removed range may still be held by another reservation of the same room
+        private void clearAndRestore(LocalDate startDate, LocalDate endDate) {
+            bitmap.clear(startDate, endDate);
+            ranges.values().stream()
+                    .filter(range -> !range[0].isAfter(endDate) && !range[1].isBefore(startDate))
+                    .forEach(range -> bitmap.set(range[0], range[1]));
+        }
+
+        private void rebuildBitmap(LocalDate origin) {
+            bitmap = new RoomOccupancyBitmap(origin, horizonDays);
+            ranges.values().forEach(range -> bitmap.set(range[0], range[1]));
+        }
+    }
+}
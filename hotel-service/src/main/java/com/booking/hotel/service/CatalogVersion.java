@@ -0,0 +1,93 @@
+package com.booking.hotel.service;
+
+import com.booking.hotel.entity.CatalogState;
+import com.booking.hotel.repository.CatalogStateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version of the hotel and room catalogue, returned in {@link #HEADER} by the catalogue endpoints.
+ * The gateway keeps cached catalogue responses only while it has not seen a newer version.
+ * <p>
+ * The version lives in the {@code catalog_state} row rather than in memory: every instance reports
+ * the same sequence, so a change made through any of them is newer than everything the gateway has
+ * cached, whichever instance served it.
+ * <p>
+ * Catalogue reads get the version from memory, not from that row. It is updated right after this
+ * instance commits a change and re-read every {@code hotel.catalog.version-refresh} for changes made
+ * through other instances; until then they tag responses with the older version, which is still no
+ * newer than the data they return.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogVersion {
+
+    public static final String HEADER = "X-Catalog-Version";
+
+    private final CatalogStateRepository catalogStateRepository;
+
+    private final AtomicLong version = new AtomicLong();
+
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * Bumps the version in the caller's transaction, so it commits together with the change and a
+     * response tagged with the new version always sees it. Concurrent catalogue writes queue on the
+     * row lock until commit; they are admin operations and rare.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void bump() {
+        long bumped;
+        if (catalogStateRepository.increment(CatalogState.ID) == 0) {
+            bumped = catalogStateRepository.save(initialState()).getVersion();
+        } else {
+            bumped = catalogStateRepository.findVersion(CatalogState.ID).orElseThrow();
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                version.accumulateAndGet(bumped, Math::max);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${hotel.catalog.version-refresh:1000}",
+            initialDelayString = "${hotel.catalog.version-refresh:1000}")
+    public void refresh() {
+        catalogStateRepository.findVersion(CatalogState.ID).ifPresent(version::set);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!catalogStateRepository.existsById(CatalogState.ID)) {
+            try {
+                catalogStateRepository.saveAndFlush(initialState());
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Catalogue version already initialized by another instance");
+            }
+        }
+        refresh();
+    }
+
+    // Seeded with the creation time, so a recreated database never reuses a version the gateway has seen
+    private static CatalogState initialState() {
+        return CatalogState.builder()
+                .id(CatalogState.ID)
+                .version(System.currentTimeMillis())
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.booking.hotel.service;
+
+import com.booking.hotel.dto.ExportFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes export rows straight to the response stream, one NDJSON line or CSV record per row.
+ * Only a fixed-size buffer is held, whatever the number of rows.
+ */
+class ExportWriter implements Closeable {
+
+    private final JsonGenerator json;
+    private final ObjectMapper objectMapper;
+    private final Writer csv;
+    private boolean empty = true;
+
+    /**
+     * @param columns CSV header; rows passed to {@link #write} must give their values in this order
+     */
+    ExportWriter(OutputStream out, ExportFormat format, ObjectMapper objectMapper, String... columns)
+            throws IOException {
+        this.objectMapper = objectMapper;
+        if (format == ExportFormat.CSV) {
+            this.json = null;
+            this.csv = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writeRecord((Object[]) columns);
+        } else {
+            this.csv = null;
+            this.json = objectMapper.getFactory().createGenerator(out);
+            this.json.setRootValueSeparator(new SerializedString("\n"));
+        }
+    }
+
+    void write(Object row, Object... values) throws IOException {
+        if (json != null) {
+            objectMapper.writeValue(json, row);
+        } else {
+            writeRecord(values);
+        }
+        empty = false;
+    }
+
+    private void writeRecord(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                csv.write(',');
+            }
+            if (values[i] != null) {
+                csv.write(escape(values[i].toString()));
+            }
+        }
+        csv.write("\r\n");
+    }
+
+    private static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (json != null) {
+            if (!empty) {
+                json.writeRaw('\n');
+            }
+            json.close();
+        } else {
+            csv.close();
+        }
+    }
+}
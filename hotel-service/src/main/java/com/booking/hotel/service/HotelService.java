@@ -4,10 +4,10 @@ import com.booking.hotel.dto.HotelCreateRequest;
 import com.booking.hotel.dto.HotelDTO;
 import com.booking.hotel.dto.HotelStatisticsDTO;
 import com.booking.hotel.entity.Hotel;
-import com.booking.hotel.entity.Room;
+import com.booking.hotel.entity.HotelStatistics;
 import com.booking.hotel.exception.ResourceNotFoundException;
 import com.booking.hotel.repository.HotelRepository;
-import com.booking.hotel.repository.RoomReservationRepository;
+import com.booking.hotel.repository.HotelStatisticsRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,7 +22,9 @@ import java.util.stream.Collectors;
 public class HotelService {
 
     private final HotelRepository hotelRepository;
-    private final RoomReservationRepository reservationRepository;
+    private final HotelStatisticsRepository statisticsRepository;
+    private final HotelStatisticsService statisticsService;
+    private final CatalogVersion catalogVersion;
 
     @Transactional
     public HotelDTO createHotel(HotelCreateRequest request) {
@@ -34,6 +36,8 @@ public class HotelService {
                 .build();
 
         hotel = hotelRepository.save(hotel);
+        statisticsService.hotelCreated(hotel);
+        catalogVersion.bump();
         log.info("Hotel created successfully: id={}, name={}", hotel.getId(), hotel.getName());
 
         return mapToDTO(hotel);
@@ -59,9 +63,9 @@ public class HotelService {
     public List<HotelStatisticsDTO> getAllHotelStatistics() {
         log.debug("Fetching statistics for all hotels");
 
-        return hotelRepository.findAll()
+        return statisticsRepository.findAllByOrderByHotelIdAsc()
                 .stream()
-                .map(this::calculateHotelStatistics)
+                .map(this::mapToStatisticsDTO)
                 .collect(Collectors.toList());
     }
 
@@ -69,37 +73,27 @@ public class HotelService {
     public HotelStatisticsDTO getHotelStatistics(Long hotelId) {
         log.debug("Fetching statistics for hotel: {}", hotelId);
 
-        Hotel hotel = getHotelById(hotelId);
-        return calculateHotelStatistics(hotel);
+        return statisticsRepository.findById(hotelId)
+                .map(this::mapToStatisticsDTO)
+                .orElseThrow(() -> new ResourceNotFoundException("Hotel not found with ID: " + hotelId));
     }
 
-    private HotelStatisticsDTO calculateHotelStatistics(Hotel hotel) {
-        List<Room> rooms = hotel.getRooms();
-        long totalRooms = rooms.size();
-        long availableRooms = rooms.stream().filter(Room::getAvailable).count();
+    private HotelStatisticsDTO mapToStatisticsDTO(HotelStatistics statistics) {
+        long totalRooms = statistics.getTotalRooms();
+        long availableRooms = statistics.getAvailableRooms();
         long unavailableRooms = totalRooms - availableRooms;
-
-        double averageTimesBooked = rooms.stream()
-                .mapToInt(Room::getTimesBooked)
-                .average()
-                .orElse(0.0);
-
-        long totalReservations = rooms.stream()
-                .mapToLong(room -> reservationRepository.countByRoomIdAndStatus(
-                        room.getId(),
-                        com.booking.hotel.entity.RoomReservation.ReservationStatus.CONFIRMED))
-                .sum();
+        double averageTimesBooked = totalRooms > 0 ? (double) statistics.getTotalTimesBooked() / totalRooms : 0.0;
 
         double occupancyRate = totalRooms > 0 ? (double) unavailableRooms / totalRooms * 100 : 0.0;
 
         return HotelStatisticsDTO.builder()
-                .hotelId(hotel.getId())
-                .hotelName(hotel.getName())
+                .hotelId(statistics.getHotelId())
+                .hotelName(statistics.getHotelName())
                 .totalRooms(totalRooms)
                 .availableRooms(availableRooms)
                 .unavailableRooms(unavailableRooms)
                 .averageTimesBooked(Math.round(averageTimesBooked * 100.0) / 100.0)
-                .totalReservations(totalReservations)
+                .totalReservations(statistics.getConfirmedReservations())
                 .occupancyRate(Math.round(occupancyRate * 100.0) / 100.0)
                 .build();
     }
@@ -0,0 +1,145 @@
+package com.booking.hotel.service;
+
+import com.booking.hotel.entity.Hotel;
+import com.booking.hotel.entity.HotelStatistics;
+import com.booking.hotel.entity.Room;
+import com.booking.hotel.repository.HotelRepository;
+import com.booking.hotel.repository.HotelStatisticsRepository;
+import com.booking.hotel.repository.HotelStatisticsView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the {@code hotel_statistics} counters. Updates join the caller's transaction, so the
+ * counters commit or roll back together with the rooms and reservations they count.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HotelStatisticsService {
+
+    private final HotelStatisticsRepository statisticsRepository;
+    private final HotelRepository hotelRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void hotelCreated(Hotel hotel) {
+        statisticsRepository.save(HotelStatistics.builder()
+                .hotelId(hotel.getId())
+                .hotelName(hotel.getName())
+                .build());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void roomCreated(Room room) {
+        Long hotelId = room.getHotel().getId();
+        checkUpdated(hotelId, statisticsRepository.incrementRooms(hotelId, room.getAvailable() ? 1 : 0));
+    }
+
+    /**
+     * Counts one confirmed reservation (and one {@code timesBooked} increment) per given room.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reservationsConfirmed(Collection<Room> rooms) {
+        rooms.stream()
+                .collect(Collectors.groupingBy(room -> room.getHotel().getId(), Collectors.counting()))
+                .forEach((hotelId, count) ->
+                        checkUpdated(hotelId, statisticsRepository.incrementConfirmed(hotelId, count)));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reservationReleased(Room room) {
+        Long hotelId = room.getHotel().getId();
+        checkUpdated(hotelId, statisticsRepository.decrementConfirmed(hotelId));
+    }
+
+    /**
+     * Compares the counters with aggregates over {@code rooms} and {@code room_reservations} and
+     * rewrites the rows that drifted, creating missing ones (e.g. hotels inserted by data loaders).
+     *
+     * @return number of corrected rows
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${hotel.statistics.reconcile-interval:300000}",
+            initialDelayString = "${hotel.statistics.reconcile-interval:300000}")
+    public int reconcile() {
+        Map<Long, HotelStatistics> stored = statisticsRepository.findAll()
+                .stream()
+                .collect(Collectors.toMap(HotelStatistics::getHotelId, Function.identity()));
+
+        int corrected = 0;
+        for (HotelStatisticsView actual : hotelRepository.findAllStatistics()) {
+            HotelStatistics row = stored.get(actual.getHotelId());
+            if (row == null || !matches(row, actual)) {
+                // The unlocked comparison may race with in-flight updates; recheck under the row lock
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> correct(actual.getHotelId())))) {
+                    corrected++;
+                }
+            }
+        }
+
+        if (corrected > 0) {
+            log.warn("Hotel statistics reconciled: corrected={}", corrected);
+        } else {
+            log.debug("Hotel statistics reconciled, no drift found");
+        }
+        return corrected;
+    }
+
+    private boolean correct(Long hotelId) {
+        // Taking the row lock first waits for transactions that already bumped the counters, so the
+        // aggregate below sees their rooms and reservations as well
+        HotelStatistics row = statisticsRepository.findByIdForUpdate(hotelId).orElse(null);
+        HotelStatisticsView actual = hotelRepository.findStatisticsByHotelId(hotelId).orElse(null);
+        if (actual == null || (row != null && matches(row, actual))) {
+            return false;
+        }
+
+        if (row == null) {
+            log.info("Creating missing hotel statistics: hotelId={}", hotelId);
+            row = HotelStatistics.builder().hotelId(hotelId).build();
+        } else {
+            log.warn("Hotel statistics drift: hotelId={}, rooms={}/{}, available={}/{}, timesBooked={}/{}, " +
+                            "confirmed={}/{} (stored/actual)",
+                    hotelId, row.getTotalRooms(), actual.getTotalRooms(),
+                    row.getAvailableRooms(), actual.getAvailableRooms(),
+                    row.getTotalTimesBooked(), actual.getTotalTimesBooked(),
+                    row.getConfirmedReservations(), actual.getConfirmedReservations());
+        }
+
+        row.setHotelName(actual.getHotelName());
+        row.setTotalRooms(actual.getTotalRooms());
+        row.setAvailableRooms(actual.getAvailableRooms());
+        row.setTotalTimesBooked(actual.getTotalTimesBooked());
+        row.setConfirmedReservations(actual.getConfirmedReservations());
+        statisticsRepository.save(row);
+        return true;
+    }
+
+    private boolean matches(HotelStatistics row, HotelStatisticsView actual) {
+        return Objects.equals(row.getHotelName(), actual.getHotelName())
+                && Objects.equals(row.getTotalRooms(), actual.getTotalRooms())
+                && Objects.equals(row.getAvailableRooms(), actual.getAvailableRooms())
+                && Objects.equals(row.getTotalTimesBooked(), actual.getTotalTimesBooked())
+                && Objects.equals(row.getConfirmedReservations(), actual.getConfirmedReservations());
+    }
+
+    private void checkUpdated(Long hotelId, int updated) {
+        if (updated == 0) {
+            log.warn("Hotel statistics row missing, reconciliation will rebuild it: hotelId={}", hotelId);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.booking.hotel.service;
+
+import com.booking.hotel.dto.ExportFormat;
+import com.booking.hotel.dto.RoomReservationDTO;
+import com.booking.hotel.entity.RoomReservation;
+import com.booking.hotel.repository.RoomReservationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationExportService {
+
+    private final RoomReservationRepository reservationRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    // One read-only transaction and cursor for the whole export; each reservation is detached once
+    // written, and only the id of its lazy room is read, so the persistence context stays empty
+    @Transactional(readOnly = true)
+    public long exportReservations(ExportFormat format, OutputStream out) throws IOException {
+        log.info("Exporting room reservations as {}", format);
+
+        long rows = 0;
+        try (Stream<RoomReservation> reservations = reservationRepository.streamAll();
+             ExportWriter writer = new ExportWriter(out, format, objectMapper,
+                     "id", "roomId", "bookingId", "requestId", "startDate", "endDate", "status", "createdAt", "updatedAt")) {
+            Iterator<RoomReservation> iterator = reservations.iterator();
+            while (iterator.hasNext()) {
+                RoomReservation reservation = iterator.next();
+                RoomReservationDTO row = mapToDTO(reservation);
+                writer.write(row, row.getId(), row.getRoomId(), row.getBookingId(), row.getRequestId(),
+                        row.getStartDate(), row.getEndDate(), row.getStatus(), row.getCreatedAt(), row.getUpdatedAt());
+                entityManager.detach(reservation);
+                rows++;
+            }
+        }
+
+        log.info("Exported {} room reservations", rows);
+        return rows;
+    }
+
+    private RoomReservationDTO mapToDTO(RoomReservation reservation) {
+        return RoomReservationDTO.builder()
+                .id(reservation.getId())
+                .roomId(reservation.getRoom().getId())
+                .bookingId(reservation.getBookingId())
+                .requestId(reservation.getRequestId())
+                .startDate(reservation.getStartDate())
+                .endDate(reservation.getEndDate())
+                .status(reservation.getStatus())
+                .createdAt(reservation.getCreatedAt())
+                .updatedAt(reservation.getUpdatedAt())
+                .build();
+    }
+}
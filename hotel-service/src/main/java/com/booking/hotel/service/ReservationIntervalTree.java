@@ -0,0 +1,169 @@
+package com.booking.hotel.service;
+
+import java.time.LocalDate;
+
+// AVL tree of closed date ranges keyed by (startDate, reservationId), augmented with the
+// max endDate of each subtree so overlap lookups skip branches that cannot intersect.
+// Not thread-safe: AvailabilityIndex guards each room's tree.
+class ReservationIntervalTree {
+
+    private Node root;
+    private int size;
+
+    void insert(long reservationId, LocalDate startDate, LocalDate endDate) {
+        root = insert(root, new Node(reservationId, startDate, endDate));
+    }
+
+    void remove(long reservationId, LocalDate startDate) {
+        root = remove(root, reservationId, startDate);
+    }
+
+    boolean overlaps(LocalDate startDate, LocalDate endDate) {
+        return overlaps(root, startDate, endDate);
+    }
+
+    int size() {
+        return size;
+    }
+
+    private boolean overlaps(Node node, LocalDate startDate, LocalDate endDate) {
+        if (node == null || node.maxEnd.isBefore(startDate)) {
+            return false;
+        }
+        if (!node.startDate.isAfter(endDate) && !node.endDate.isBefore(startDate)) {
+            return true;
+        }
+        if (overlaps(node.left, startDate, endDate)) {
+            return true;
+        }
+        // Everything on the right starts no earlier than this node
+        return !node.startDate.isAfter(endDate) && overlaps(node.right, startDate, endDate);
+    }
+
+    private Node insert(Node node, Node added) {
+        if (node == null) {
+            size++;
+            return added;
+        }
+        int cmp = compare(added.startDate, added.reservationId, node);
+        if (cmp < 0) {
+            node.left = insert(node.left, added);
+        } else if (cmp > 0) {
+            node.right = insert(node.right, added);
+        } else {
+            node.endDate = added.endDate;
+        }
+        return rebalance(node);
+    }
+
+    private Node remove(Node node, long reservationId, LocalDate startDate) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(startDate, reservationId, node);
+        if (cmp < 0) {
+            node.left = remove(node.left, reservationId, startDate);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, reservationId, startDate);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.right = removeMin(node.right);
+            successor.left = node.left;
+            successor.right = node.right;
+            node = successor;
+        }
+        return rebalance(node);
+    }
+
+    private Node removeMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return rebalance(node);
+    }
+
+    private int compare(LocalDate startDate, long reservationId, Node node) {
+        int cmp = startDate.compareTo(node.startDate);
+        return cmp != 0 ? cmp : Long.compare(reservationId, node.reservationId);
+    }
+
+    private Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        LocalDate maxEnd = node.endDate;
+        if (node.left != null && node.left.maxEnd.isAfter(maxEnd)) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd.isAfter(maxEnd)) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static final class Node {
+        private final long reservationId;
+        private final LocalDate startDate;
+        private LocalDate endDate;
+        private LocalDate maxEnd;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        private Node(long reservationId, LocalDate startDate, LocalDate endDate) {
+            this.reservationId = reservationId;
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.maxEnd = endDate;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.booking.hotel.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+
+@Component
+public class RoomLockManager {
+
+    private final ReentrantLock[] stripes;
+
+    public RoomLockManager(@Value("${hotel.reservation.lock-stripes:256}") int stripeCount) {
+        this.stripes = IntStream.range(0, stripeCount)
+                .mapToObj(i -> new ReentrantLock())
+                .toArray(ReentrantLock[]::new);
+    }
+
+    public RoomLock lockUntilCompletion(Long roomId) {
+        return lockUntilCompletion(List.of(roomId));
+    }
+
+    // Stripes are taken in index order so callers locking several rooms cannot deadlock.
+    // Inside a transaction they are held until after commit/rollback, so the next request
+    // for the same room sees both the committed row and the updated AvailabilityIndex.
+    public RoomLock lockUntilCompletion(Collection<Long> roomIds) {
+        int[] indexes = roomIds.stream()
+                .mapToInt(this::stripeIndex)
+                .distinct()
+                .sorted()
+                .toArray();
+        for (int index : indexes) {
+            stripes[index].lock();
+        }
+
+        return holdUntilCompletion(() -> {
+            for (int i = indexes.length - 1; i >= 0; i--) {
+                stripes[indexes[i]].unlock();
+            }
+        });
+    }
+
+    // Non-blocking variant for callers that can move on to another room; null if the stripe is
+    // busy (held for this room or for another one hashed to the same stripe).
+    public CandidateLock tryLockCandidate(Long roomId) {
+        ReentrantLock stripe = stripes[stripeIndex(roomId)];
+        return stripe.tryLock() ? new CandidateLock(stripe) : null;
+    }
+
+    // Blocking variant; safe as long as the caller holds no other stripe while it waits.
+    public CandidateLock lockCandidate(Long roomId) {
+        ReentrantLock stripe = stripes[stripeIndex(roomId)];
+        stripe.lock();
+        return new CandidateLock(stripe);
+    }
+
+    private RoomLock holdUntilCompletion(Runnable unlock) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            unlockAfterCompletion(unlock);
+            return () -> { };
+        }
+        return unlock::run;
+    }
+
+    private static void unlockAfterCompletion(Runnable unlock) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                unlock.run();
+            }
+        });
+    }
+
+    private int stripeIndex(Long roomId) {
+        return Math.floorMod(Long.hashCode(roomId) * 0x9E3779B9, stripes.length);
+    }
+
+    @FunctionalInterface
+    public interface RoomLock extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * Lock on a candidate room's stripe, released on {@link #close()} unless the caller reserved the
+     * room and called {@link #keepUntilCompletion()}. Candidates that turn out to be taken are let go
+     * right away, so a caller checking rooms one after another never waits while holding a stripe.
+     */
+    public static final class CandidateLock implements RoomLock {
+
+        private final ReentrantLock stripe;
+        private boolean kept;
+
+        private CandidateLock(ReentrantLock stripe) {
+            this.stripe = stripe;
+        }
+
+        public void keepUntilCompletion() {
+            if (!kept && TransactionSynchronizationManager.isSynchronizationActive()) {
+                unlockAfterCompletion(stripe::unlock);
+                kept = true;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (!kept) {
+                stripe.unlock();
+            }
+        }
+    }
+}
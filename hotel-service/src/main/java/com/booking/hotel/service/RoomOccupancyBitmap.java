@@ -0,0 +1,66 @@
+package com.booking.hotel.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+// One bit per day from origin over a fixed horizon. Range checks test whole 64-day words
+// against a mask instead of walking individual days or reservations.
+// Not thread-safe: AvailabilityIndex guards each room's bitmap.
+class RoomOccupancyBitmap {
+
+    private final LocalDate origin;
+    private final int horizonDays;
+    private final long[] words;
+
+    RoomOccupancyBitmap(LocalDate origin, int horizonDays) {
+        this.origin = origin;
+        this.horizonDays = horizonDays;
+        this.words = new long[(horizonDays + 63) / 64];
+    }
+
+    LocalDate getOrigin() {
+        return origin;
+    }
+
+    boolean covers(LocalDate startDate, LocalDate endDate) {
+        return !startDate.isBefore(origin) && offset(endDate) < horizonDays;
+    }
+
+    void set(LocalDate startDate, LocalDate endDate) {
+        int from = Math.max(0, offset(startDate));
+        int to = (int) Math.min(horizonDays - 1L, offset(endDate));
+        for (int word = from >>> 6; from <= to && word <= to >>> 6; word++) {
+            words[word] |= mask(word, from, to);
+        }
+    }
+
+    void clear(LocalDate startDate, LocalDate endDate) {
+        int from = Math.max(0, offset(startDate));
+        int to = (int) Math.min(horizonDays - 1L, offset(endDate));
+        for (int word = from >>> 6; from <= to && word <= to >>> 6; word++) {
+            words[word] &= ~mask(word, from, to);
+        }
+    }
+
+    boolean anySet(LocalDate startDate, LocalDate endDate) {
+        int from = offset(startDate);
+        int to = offset(endDate);
+        for (int word = from >>> 6; word <= to >>> 6; word++) {
+            if ((words[word] & mask(word, from, to)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long mask(int word, int from, int to) {
+        int low = word == from >>> 6 ? from & 63 : 0;
+        int high = word == to >>> 6 ? to & 63 : 63;
+        return (-1L >>> (63 - high)) & (-1L << low);
+    }
+
+    private int offset(LocalDate date) {
+        long days = ChronoUnit.DAYS.between(origin, date);
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, days));
+    }
+}
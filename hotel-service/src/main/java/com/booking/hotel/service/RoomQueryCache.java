@@ -0,0 +1,140 @@
+package com.booking.hotel.service;
+
+import com.booking.hotel.dto.RoomDTO;
+import com.booking.hotel.entity.RoomReservation;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight layer with a micro-TTL over the read-only room queries. Concurrent identical
+ * queries share one database execution and one result list; the list is unmodifiable and
+ * {@link RoomDTO} is immutable, so every caller gets the same instance. Reservation changes drop
+ * the affected entries once their transaction commits, the TTL bounds everything else (such as
+ * {@code timesBooked} seen through other hotels' queries). Hit/miss counters are published as
+ * {@code cache.*} metrics with {@code cache=room-queries}.
+ */
+@Component
+public class RoomQueryCache {
+
+    // hotelId is null for available rooms across all hotels
+    private record Key(Long hotelId, LocalDate startDate, LocalDate endDate) {
+
+        boolean affectedBy(Long changedHotelId, LocalDate changedStart, LocalDate changedEnd) {
+            if (hotelId != null) {
+                // Recommendations of the hotel are ordered by timesBooked, whatever the dates
+                return hotelId.equals(changedHotelId);
+            }
+            return changedStart == null
+                    || (!startDate.isAfter(changedEnd) && !endDate.isBefore(changedStart));
+        }
+    }
+
+    private final boolean enabled;
+    private final AsyncCache<Key, List<RoomDTO>> cache;
+
+    public RoomQueryCache(@Value("${hotel.rooms.query-cache.enabled:true}") boolean enabled,
+                          @Value("${hotel.rooms.query-cache.max-size:1000}") long maxSize,
+                          @Value("${hotel.rooms.query-cache.ttl:500ms}") Duration ttl,
+                          MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "room-queries");
+    }
+
+    public List<RoomDTO> getAvailableRooms(LocalDate startDate, LocalDate endDate,
+                                           Supplier<List<RoomDTO>> loader) {
+        return get(new Key(null, startDate, endDate), loader);
+    }
+
+    public List<RoomDTO> getRecommendedRooms(Long hotelId, LocalDate startDate, LocalDate endDate,
+                                             Supplier<List<RoomDTO>> loader) {
+        return get(new Key(hotelId, startDate, endDate), loader);
+    }
+
+    /**
+     * Drops the queries a reservation change can affect after the surrounding transaction commits,
+     * so a query running before the commit cannot put the old state back.
+     */
+    public void invalidateAfterCommit(RoomReservation reservation) {
+        Long hotelId = reservation.getRoom().getHotel().getId();
+        LocalDate startDate = reservation.getStartDate();
+        LocalDate endDate = reservation.getEndDate();
+        afterCommit(() -> invalidate(hotelId, startDate, endDate));
+    }
+
+    /**
+     * Drops every query that can list rooms of the hotel, e.g. after a room was added.
+     */
+    public void invalidateHotelAfterCommit(Long hotelId) {
+        afterCommit(() -> invalidate(hotelId, null, null));
+    }
+
+    private List<RoomDTO> get(Key key, Supplier<List<RoomDTO>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        CompletableFuture<List<RoomDTO>> created = new CompletableFuture<>();
+        // Only registers the future: loading inside the mapping function would block the map
+        CompletableFuture<List<RoomDTO>> future = cache.get(key, (k, executor) -> created);
+        if (future != created) {
+            return join(future);
+        }
+
+        try {
+            List<RoomDTO> rooms = List.copyOf(loader.get());
+            created.complete(rooms);
+            return rooms;
+        } catch (RuntimeException e) {
+            // Failed futures are dropped by the cache, so the next request runs the query again
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private void invalidate(Long hotelId, LocalDate startDate, LocalDate endDate) {
+        // In-flight loads are dropped too: they may have read the state before the change
+        cache.asMap().keySet().removeIf(key -> key.affectedBy(hotelId, startDate, endDate));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static List<RoomDTO> join(CompletableFuture<List<RoomDTO>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.booking.hotel.service;
 
+import com.booking.hotel.dto.BatchConfirmAvailabilityItem;
+import com.booking.hotel.dto.BatchConfirmAvailabilityRequest;
+import com.booking.hotel.dto.BatchConfirmAvailabilityResponse;
 import com.booking.hotel.dto.ConfirmAvailabilityRequest;
 import com.booking.hotel.dto.ConfirmAvailabilityResponse;
 import com.booking.hotel.dto.ReleaseReservationRequest;
@@ -11,11 +14,18 @@ import com.booking.hotel.repository.RoomRepository;
 import com.booking.hotel.repository.RoomReservationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,24 +35,29 @@ public class RoomReservationService {
     private final RoomReservationRepository reservationRepository;
     private final RoomRepository roomRepository;
     private final RoomService roomService;
+    private final AvailabilityIndex availabilityIndex;
+    private final RoomQueryCache roomQueryCache;
+    private final RoomLockManager roomLockManager;
+    private final HotelStatisticsService statisticsService;
+
+    // How many of the least booked free rooms concurrent reserve-any requests are spread over
+    @Value("${hotel.reservation.reserve-any.candidates:5}")
+    private int reserveAnyCandidates = 5;
 
     @Transactional
     public ConfirmAvailabilityResponse confirmAvailability(Long roomId, ConfirmAvailabilityRequest request) {
         log.info("Confirming availability for room: {}, bookingId: {}, requestId: {}",
                 roomId, request.getBookingId(), request.getRequestId());
 
+        try (RoomLockManager.RoomLock ignored = roomLockManager.lockUntilCompletion(roomId)) {
+            return confirmLocked(roomId, request);
+        }
+    }
+
+    private ConfirmAvailabilityResponse confirmLocked(Long roomId, ConfirmAvailabilityRequest request) {
         Optional<RoomReservation> existingReservation = reservationRepository.findByRequestId(request.getRequestId());
         if (existingReservation.isPresent()) {
-            RoomReservation reservation = existingReservation.get();
-            log.info("Duplicate request detected, returning existing reservation: id={}, status={}",
-                    reservation.getId(), reservation.getStatus());
-
-            boolean isAvailable = reservation.getStatus() != RoomReservation.ReservationStatus.RELEASED;
-            return ConfirmAvailabilityResponse.builder()
-                    .available(isAvailable)
-                    .message(isAvailable ? "Reservation already exists" : "Reservation was released")
-                    .reservationId(reservation.getId())
-                    .build();
+            return existingReservationResponse(existingReservation.get());
         }
 
         Room room = roomService.getRoomById(roomId);
@@ -65,6 +80,89 @@ public class RoomReservationService {
                     .build();
         }
 
+        return reserve(room, request);
+    }
+
+    /**
+     * Reserves the best free room of the hotel in one call. Candidates are the free rooms ordered by
+     * {@code timesBooked}; concurrent requests start at different rooms among the first few and skip
+     * rooms another request is reserving right now instead of queueing behind it. Only when every
+     * remaining candidate was skipped does the request wait for those rooms, one at a time.
+     */
+    @Transactional
+    public ConfirmAvailabilityResponse reserveAnyRoom(Long hotelId, ConfirmAvailabilityRequest request) {
+        log.info("Reserving any room in hotel: {}, bookingId: {}, requestId: {}",
+                hotelId, request.getBookingId(), request.getRequestId());
+
+        Optional<RoomReservation> existingReservation = reservationRepository.findByRequestId(request.getRequestId());
+        if (existingReservation.isPresent()) {
+            return existingReservationResponse(existingReservation.get());
+        }
+
+        List<Room> candidates = roomRepository.findRecommendedRoomsForDates(
+                hotelId, request.getStartDate(), request.getEndDate());
+        List<Room> busy = new ArrayList<>();
+        for (Room room : spreadCandidates(candidates, request.getRequestId())) {
+            RoomLockManager.CandidateLock lock = roomLockManager.tryLockCandidate(room.getId());
+            if (lock == null) {
+                busy.add(room);
+                continue;
+            }
+            try (lock) {
+                ConfirmAvailabilityResponse response = reserveIfAvailable(room, request, lock);
+                if (response != null) {
+                    return response;
+                }
+            }
+        }
+
+        // A busy stripe may be held for an unrelated room that hashes to it, so the skipped rooms can
+        // still be free: wait for them one at a time before reporting the hotel as full
+        for (Room room : busy) {
+            try (RoomLockManager.CandidateLock lock = roomLockManager.lockCandidate(room.getId())) {
+                ConfirmAvailabilityResponse response = reserveIfAvailable(room, request, lock);
+                if (response != null) {
+                    return response;
+                }
+            }
+        }
+
+        log.warn("No room reserved: hotelId={}, dates: {} to {}, candidates={}, waited for={}",
+                hotelId, request.getStartDate(), request.getEndDate(), candidates.size(), busy.size());
+        return ConfirmAvailabilityResponse.builder()
+                .available(false)
+                .message("No rooms available for the selected dates")
+                .build();
+    }
+
+    private ConfirmAvailabilityResponse reserveIfAvailable(Room room, ConfirmAvailabilityRequest request,
+                                                           RoomLockManager.CandidateLock lock) {
+        // The candidate query ran before the lock; another request may have taken the room since
+        if (!isRoomAvailableForDates(room.getId(), request.getStartDate(), request.getEndDate())) {
+            return null;
+        }
+        // Held until commit, so the next request for the room sees the reservation
+        lock.keepUntilCompletion();
+        return reserve(room, request);
+    }
+
+    private List<Room> spreadCandidates(List<Room> candidates, String requestId) {
+        int top = Math.min(reserveAnyCandidates, candidates.size());
+        if (top <= 1) {
+            return candidates;
+        }
+        // Hashing the request id keeps the order stable for retries of the same request
+        int offset = Math.floorMod(requestId.hashCode(), top);
+        List<Room> ordered = new ArrayList<>(candidates.size());
+        for (int i = 0; i < top; i++) {
+            ordered.add(candidates.get((offset + i) % top));
+        }
+        ordered.addAll(candidates.subList(top, candidates.size()));
+        return ordered;
+    }
+
+    private ConfirmAvailabilityResponse reserve(Room room, ConfirmAvailabilityRequest request) {
+        Long roomId = room.getId();
         RoomReservation reservation = RoomReservation.builder()
                 .room(room)
                 .bookingId(request.getBookingId())
@@ -75,9 +173,12 @@ public class RoomReservationService {
                 .build();
 
         reservation = reservationRepository.save(reservation);
+        availabilityIndex.registerAfterCommit(reservation);
+        roomQueryCache.invalidateAfterCommit(reservation);
 
         room.incrementBookingCount();
         roomRepository.save(room);
+        statisticsService.reservationsConfirmed(List.of(room));
 
         log.info("Reservation CONFIRMED: id={}, roomId={}, bookingId={}, timesBooked={}",
                 reservation.getId(), roomId, request.getBookingId(), room.getTimesBooked());
@@ -86,6 +187,129 @@ public class RoomReservationService {
                 .available(true)
                 .message("Room reserved successfully")
                 .reservationId(reservation.getId())
+                .roomId(roomId)
+                .build();
+    }
+
+    private ConfirmAvailabilityResponse existingReservationResponse(RoomReservation reservation) {
+        log.info("Duplicate request detected, returning existing reservation: id={}, status={}",
+                reservation.getId(), reservation.getStatus());
+
+        boolean isAvailable = reservation.getStatus() != RoomReservation.ReservationStatus.RELEASED;
+        return ConfirmAvailabilityResponse.builder()
+                .available(isAvailable)
+                .message(isAvailable ? "Reservation already exists" : "Reservation was released")
+                .reservationId(reservation.getId())
+                .roomId(reservation.getRoom().getId())
+                .build();
+    }
+
+    @Transactional
+    public BatchConfirmAvailabilityResponse confirmAvailabilityBatch(BatchConfirmAvailabilityRequest request) {
+        List<BatchConfirmAvailabilityItem> items = request.getItems();
+        Set<Long> roomIds = items.stream()
+                .map(BatchConfirmAvailabilityItem::getRoomId)
+                .collect(Collectors.toSet());
+        log.info("Confirming availability for batch: reservations={}, rooms={}", items.size(), roomIds);
+
+        try (RoomLockManager.RoomLock ignored = roomLockManager.lockUntilCompletion(roomIds)) {
+            return confirmBatchLocked(items, roomIds);
+        }
+    }
+
+    private BatchConfirmAvailabilityResponse confirmBatchLocked(List<BatchConfirmAvailabilityItem> items,
+                                                                Set<Long> roomIds) {
+        Map<String, RoomReservation> existingReservations = reservationRepository.findByRequestIdIn(
+                        items.stream().map(BatchConfirmAvailabilityItem::getRequestId).toList())
+                .stream()
+                .collect(Collectors.toMap(RoomReservation::getRequestId, Function.identity()));
+
+        Map<Long, Room> rooms = roomRepository.findAllById(roomIds)
+                .stream()
+                .collect(Collectors.toMap(Room::getId, Function.identity()));
+
+        for (Long roomId : roomIds) {
+            Room room = rooms.get(roomId);
+            if (room == null) {
+                throw new ResourceNotFoundException("Room not found with ID: " + roomId);
+            }
+            if (!room.getAvailable()) {
+                log.warn("Room is not operationally available: roomId={}", roomId);
+                throw new RoomNotAvailableException("Room is not available: " + roomId);
+            }
+        }
+
+        // All items are checked against the same locked snapshot, including each other
+        List<ConfirmAvailabilityResponse> results = new ArrayList<>();
+        List<RoomReservation> newReservations = new ArrayList<>();
+        RoomReservation[] reservationsByItem = new RoomReservation[items.size()];
+        boolean allAvailable = true;
+
+        for (int i = 0; i < items.size(); i++) {
+            BatchConfirmAvailabilityItem item = items.get(i);
+            RoomReservation existing = existingReservations.get(item.getRequestId());
+            if (existing != null) {
+                boolean isAvailable = existing.getStatus() != RoomReservation.ReservationStatus.RELEASED;
+                allAvailable &= isAvailable;
+                results.add(ConfirmAvailabilityResponse.builder()
+                        .available(isAvailable)
+                        .message(isAvailable ? "Reservation already exists" : "Reservation was released")
+                        .reservationId(existing.getId())
+                        .build());
+                continue;
+            }
+
+            boolean isAvailable = isRoomAvailableForDates(item.getRoomId(), item.getStartDate(), item.getEndDate())
+                    && newReservations.stream().noneMatch(other -> overlaps(other, item));
+            allAvailable &= isAvailable;
+
+            RoomReservation reservation = RoomReservation.builder()
+                    .room(rooms.get(item.getRoomId()))
+                    .bookingId(item.getBookingId())
+                    .requestId(item.getRequestId())
+                    .startDate(item.getStartDate())
+                    .endDate(item.getEndDate())
+                    .status(RoomReservation.ReservationStatus.CONFIRMED)
+                    .build();
+            newReservations.add(reservation);
+            reservationsByItem[i] = reservation;
+            results.add(ConfirmAvailabilityResponse.builder()
+                    .available(isAvailable)
+                    .message(isAvailable ? "Room can be reserved" : "Room is not available for the selected dates")
+                    .build());
+        }
+
+        if (!allAvailable) {
+            log.warn("Batch rejected, not all rooms are available: reservations={}", items.size());
+            return BatchConfirmAvailabilityResponse.builder()
+                    .available(false)
+                    .message("One or more rooms are not available for the selected dates")
+                    .results(results)
+                    .build();
+        }
+
+        reservationRepository.saveAll(newReservations);
+        newReservations.forEach(reservation -> {
+            availabilityIndex.registerAfterCommit(reservation);
+            roomQueryCache.invalidateAfterCommit(reservation);
+            reservation.getRoom().incrementBookingCount();
+        });
+        roomRepository.saveAll(newReservations.stream().map(RoomReservation::getRoom).distinct().toList());
+        statisticsService.reservationsConfirmed(newReservations.stream().map(RoomReservation::getRoom).toList());
+
+        for (int i = 0; i < items.size(); i++) {
+            if (reservationsByItem[i] != null) {
+                results.get(i).setReservationId(reservationsByItem[i].getId());
+                results.get(i).setMessage("Room reserved successfully");
+            }
+        }
+
+        log.info("Batch CONFIRMED: reservations={}, rooms={}", newReservations.size(), roomIds);
+
+        return BatchConfirmAvailabilityResponse.builder()
+                .available(true)
+                .message("Rooms reserved successfully")
+                .results(results)
                 .build();
     }
 
@@ -108,17 +332,40 @@ public class RoomReservationService {
             return;
         }
 
+        boolean wasConfirmed = reservation.getStatus() == RoomReservation.ReservationStatus.CONFIRMED;
         reservation.setStatus(RoomReservation.ReservationStatus.RELEASED);
         reservationRepository.save(reservation);
+        availabilityIndex.registerAfterCommit(reservation);
+        roomQueryCache.invalidateAfterCommit(reservation);
+        if (wasConfirmed) {
+            statisticsService.reservationReleased(reservation.getRoom());
+        }
 
         log.info("Reservation RELEASED: id={}, roomId={}, bookingId={}",
                 reservation.getId(), roomId, request.getBookingId());
     }
 
     private boolean isRoomAvailableForDates(Long roomId, LocalDate startDate, LocalDate endDate) {
-        return roomRepository.findAvailableRoomsForDates(startDate, endDate)
-                .stream()
-                .anyMatch(room -> room.getId().equals(roomId));
+        if (!availabilityIndex.isReady()) {
+            return !reservationRepository.existsOverlappingReservation(roomId, startDate, endDate);
+        }
+
+        boolean available = availabilityIndex.isAvailable(roomId, startDate, endDate);
+        if (availabilityIndex.isVerify()) {
+            boolean persisted = !reservationRepository.existsOverlappingReservation(roomId, startDate, endDate);
+            if (persisted != available) {
+                log.warn("Availability index mismatch: roomId={}, dates: {} to {}, index={}, database={}",
+                        roomId, startDate, endDate, available, persisted);
+                return persisted;
+            }
+        }
+        return available;
+    }
+
+    private boolean overlaps(RoomReservation reservation, BatchConfirmAvailabilityItem item) {
+        return reservation.getRoom().getId().equals(item.getRoomId())
+                && !reservation.getStartDate().isAfter(item.getEndDate())
+                && !reservation.getEndDate().isBefore(item.getStartDate());
     }
 
     private void createReleasedReservation(Room room, ConfirmAvailabilityRequest request) {
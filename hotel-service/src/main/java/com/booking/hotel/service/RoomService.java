@@ -14,7 +14,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,6 +22,10 @@ public class RoomService {
 
     private final RoomRepository roomRepository;
     private final HotelService hotelService;
+    private final AvailabilityIndex availabilityIndex;
+    private final HotelStatisticsService statisticsService;
+    private final RoomQueryCache roomQueryCache;
+    private final CatalogVersion catalogVersion;
 
     @Transactional
     public RoomDTO createRoom(RoomCreateRequest request) {
@@ -47,31 +50,29 @@ public class RoomService {
                 .build();
 
         room = roomRepository.save(room);
+        statisticsService.roomCreated(room);
+        roomQueryCache.invalidateHotelAfterCommit(hotel.getId());
+        catalogVersion.bump();
         log.info("Room created successfully: id={}, number={}, hotelId={}",
                 room.getId(), room.getNumber(), hotel.getId());
 
         return mapToDTO(room);
     }
 
-    @Transactional(readOnly = true)
+    // Not transactional: callers waiting for a coalesced query must not hold a connection.
+    // The repository calls run in their own read-only transactions.
     public List<RoomDTO> getAvailableRooms(LocalDate startDate, LocalDate endDate) {
         log.debug("Fetching available rooms for dates: {} to {}", startDate, endDate);
 
-        return roomRepository.findAvailableRoomsForDates(startDate, endDate)
-                .stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return roomQueryCache.getAvailableRooms(startDate, endDate, () -> loadAvailableRooms(startDate, endDate));
     }
 
-    @Transactional(readOnly = true)
     public List<RoomDTO> getRecommendedRooms(Long hotelId, LocalDate startDate, LocalDate endDate) {
         log.debug("Fetching recommended rooms for hotel: {}, dates: {} to {}",
                 hotelId, startDate, endDate);
 
-        return roomRepository.findRecommendedRoomsForDates(hotelId, startDate, endDate)
-                .stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return roomQueryCache.getRecommendedRooms(hotelId, startDate, endDate,
+                () -> roomRepository.findRecommendedRoomDTOsForDates(hotelId, startDate, endDate));
     }
 
     @Transactional(readOnly = true)
@@ -80,6 +81,17 @@ public class RoomService {
                 .orElseThrow(() -> new ResourceNotFoundException("Room not found with ID: " + roomId));
     }
 
+    private List<RoomDTO> loadAvailableRooms(LocalDate startDate, LocalDate endDate) {
+        if (!availabilityIndex.isReady()) {
+            return roomRepository.findAvailableRoomDTOsForDates(startDate, endDate);
+        }
+
+        return roomRepository.findAvailableRoomDTOs()
+                .stream()
+                .filter(room -> availabilityIndex.isAvailable(room.getId(), startDate, endDate))
+                .toList();
+    }
+
     private RoomDTO mapToDTO(Room room) {
         return RoomDTO.builder()
                 .id(room.getId())
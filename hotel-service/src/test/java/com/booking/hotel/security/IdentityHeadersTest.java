@@ -0,0 +1,97 @@
+package com.booking.hotel.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdentityHeadersTest {
+
+    private static final String SECRET = "4j5FZ0TrZBjGBRAo48yK9wBVkV1FlGOd5dMh74VL7Ps=";
+
+    // Signed by the api-gateway's IdentityHeaders (see its IdentityHeadersTest) for john/ROLE_USER
+    private static final long GATEWAY_EXPIRES = 4102444800L;
+    private static final String GATEWAY_SIGNATURE = "lgQpMRLmLZX5c2BuaB6nsmYP0gZzUKccmwOuIPUN2Bg";
+
+    // Same secret and identity, expired on 2000-01-01
+    private static final long EXPIRED = 946684800L;
+    private static final String EXPIRED_SIGNATURE = "roN5-Vt_3GUUfQFRD7hNoCXKH5JzBC3aVHP36z4hQlw";
+
+    private IdentityHeaders identityHeaders;
+
+    @BeforeEach
+    void setUp() {
+        identityHeaders = new IdentityHeaders(SECRET);
+    }
+
+    @Test
+    void verify_WithGatewaySignedHeaders_ShouldReturnIdentity() {
+        // Arrange
+        MockHttpServletRequest request = request("john", "ROLE_USER", GATEWAY_EXPIRES, GATEWAY_SIGNATURE);
+
+        // Act
+        TokenCache.VerifiedToken result = identityHeaders.verify(request);
+
+        // Assert
+        assertNotNull(result);
+        assertEquals("john", result.username());
+        assertEquals(List.of(new SimpleGrantedAuthority("ROLE_USER")), result.authorities());
+        assertEquals(Instant.ofEpochSecond(GATEWAY_EXPIRES), result.expiresAt());
+    }
+
+    @Test
+    void verify_WithTamperedRole_ShouldReturnNull() {
+        // Arrange
+        MockHttpServletRequest request = request("john", "ROLE_ADMIN", GATEWAY_EXPIRES, GATEWAY_SIGNATURE);
+
+        // Act & Assert
+        assertNull(identityHeaders.verify(request));
+    }
+
+    @Test
+    void verify_WithTamperedUser_ShouldReturnNull() {
+        // Arrange
+        MockHttpServletRequest request = request("admin", "ROLE_USER", GATEWAY_EXPIRES, GATEWAY_SIGNATURE);
+
+        // Act & Assert
+        assertNull(identityHeaders.verify(request));
+    }
+
+    @Test
+    void verify_WithOtherSecret_ShouldReturnNull() {
+        // Arrange
+        IdentityHeaders other = new IdentityHeaders("3VfMGQiFx/8C3nU0dJr3ZfBrcYbKW9PC8d3v0l2bFh0=");
+        MockHttpServletRequest request = request("john", "ROLE_USER", GATEWAY_EXPIRES, GATEWAY_SIGNATURE);
+
+        // Act & Assert
+        assertNull(other.verify(request));
+    }
+
+    @Test
+    void verify_WithExpiredIdentity_ShouldReturnNull() {
+        // Arrange
+        MockHttpServletRequest request = request("john", "ROLE_USER", EXPIRED, EXPIRED_SIGNATURE);
+
+        // Act & Assert
+        assertNull(identityHeaders.verify(request));
+    }
+
+    @Test
+    void verify_WithoutHeaders_ShouldReturnNull() {
+        assertNull(identityHeaders.verify(new MockHttpServletRequest()));
+    }
+
+    private static MockHttpServletRequest request(String username, String role, long expires, String signature) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(IdentityHeaders.USER, username);
+        request.addHeader(IdentityHeaders.ROLE, role);
+        request.addHeader(IdentityHeaders.EXPIRES, String.valueOf(expires));
+        request.addHeader(IdentityHeaders.SIGNATURE, signature);
+        return request;
+    }
+}
@@ -0,0 +1,153 @@
+package com.booking.hotel.service;
+
+import com.booking.hotel.entity.Room;
+import com.booking.hotel.entity.RoomReservation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AvailabilityIndexTest {
+
+    private static final LocalDate BASE = LocalDate.now().plusDays(1);
+
+    private AvailabilityIndex availabilityIndex;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        availabilityIndex = new AvailabilityIndex();
+        room = Room.builder().id(1L).number("101").build();
+    }
+
+    @Test
+    void isReady_BeforeLoad_ShouldBeFalse() {
+        assertFalse(availabilityIndex.isReady());
+
+        availabilityIndex.load(List.of());
+
+        assertTrue(availabilityIndex.isReady());
+    }
+
+    @Test
+    void isAvailable_ShouldTreatBothEndsAsInclusive() {
+        // Arrange
+        availabilityIndex.load(List.of(reservation(1L, 10, 12, RoomReservation.ReservationStatus.CONFIRMED)));
+
+        // Act & Assert
+        assertTrue(availabilityIndex.isAvailable(1L, day(5), day(9)));
+        assertFalse(availabilityIndex.isAvailable(1L, day(5), day(10)));
+        assertFalse(availabilityIndex.isAvailable(1L, day(11), day(11)));
+        assertFalse(availabilityIndex.isAvailable(1L, day(12), day(20)));
+        assertTrue(availabilityIndex.isAvailable(1L, day(13), day(20)));
+        assertTrue(availabilityIndex.isAvailable(2L, day(10), day(12)));
+    }
+
+    @Test
+    void load_ShouldIgnoreReleasedReservations() {
+        // Arrange
+        availabilityIndex.load(List.of(reservation(1L, 10, 12, RoomReservation.ReservationStatus.RELEASED)));
+
+        // Act & Assert
+        assertTrue(availabilityIndex.isAvailable(1L, day(10), day(12)));
+    }
+
+    @Test
+    void registerAfterCommit_WithoutTransaction_ShouldApplyImmediately() {
+        // Arrange
+        availabilityIndex.load(List.of());
+        RoomReservation reservation = reservation(1L, 10, 12, RoomReservation.ReservationStatus.CONFIRMED);
+
+        // Act
+        availabilityIndex.registerAfterCommit(reservation);
+
+        // Assert
+        assertFalse(availabilityIndex.isAvailable(1L, day(11), day(11)));
+
+        // Act
+        reservation.setStatus(RoomReservation.ReservationStatus.RELEASED);
+        availabilityIndex.registerAfterCommit(reservation);
+
+        // Assert
+        assertTrue(availabilityIndex.isAvailable(1L, day(11), day(11)));
+    }
+
+    @Test
+    void isAvailable_BeyondBitmapHorizon_ShouldUseIntervalTree() {
+        // Arrange
+        availabilityIndex.load(List.of(reservation(1L, 1000, 1005, RoomReservation.ReservationStatus.CONFIRMED)));
+
+        // Act & Assert
+        assertFalse(availabilityIndex.isAvailable(1L, day(1003), day(1010)));
+        assertFalse(availabilityIndex.isAvailable(1L, day(700), day(1000)));
+        assertTrue(availabilityIndex.isAvailable(1L, day(700), day(999)));
+        assertTrue(availabilityIndex.isAvailable(1L, day(1006), day(1010)));
+    }
+
+    @Test
+    void registerAfterCommit_ReleasingOverlappingReservation_ShouldKeepOtherDaysOccupied() {
+        // Arrange
+        RoomReservation first = reservation(1L, 10, 20, RoomReservation.ReservationStatus.CONFIRMED);
+        RoomReservation second = reservation(2L, 18, 25, RoomReservation.ReservationStatus.CONFIRMED);
+        availabilityIndex.load(List.of(first, second));
+
+        // Act
+        first.setStatus(RoomReservation.ReservationStatus.RELEASED);
+        availabilityIndex.registerAfterCommit(first);
+
+        // Assert
+        assertTrue(availabilityIndex.isAvailable(1L, day(10), day(17)));
+        assertFalse(availabilityIndex.isAvailable(1L, day(18), day(18)));
+        assertFalse(availabilityIndex.isAvailable(1L, day(20), day(30)));
+    }
+
+    @Test
+    void isAvailable_ShouldMatchLinearScanAfterRandomUpdates() {
+        // Arrange
+        Random random = new Random(42);
+        List<RoomReservation> active = new ArrayList<>();
+        availabilityIndex.load(List.of());
+
+        // Act & Assert
+        for (long id = 1; id <= 500; id++) {
+            if (!active.isEmpty() && random.nextInt(3) == 0) {
+                RoomReservation released = active.remove(random.nextInt(active.size()));
+                released.setStatus(RoomReservation.ReservationStatus.RELEASED);
+                availabilityIndex.registerAfterCommit(released);
+            } else {
+                int start = random.nextInt(900);
+                RoomReservation added = reservation(id, start, start + random.nextInt(14),
+                        RoomReservation.ReservationStatus.CONFIRMED);
+                active.add(added);
+                availabilityIndex.registerAfterCommit(added);
+            }
+
+            int queryStart = random.nextInt(920);
+            LocalDate startDate = day(queryStart);
+            LocalDate endDate = day(queryStart + random.nextInt(10));
+            boolean expected = active.stream().noneMatch(r ->
+                    !r.getStartDate().isAfter(endDate) && !r.getEndDate().isBefore(startDate));
+            assertEquals(expected, availabilityIndex.isAvailable(1L, startDate, endDate));
+        }
+    }
+
+    private RoomReservation reservation(Long id, int startDay, int endDay, RoomReservation.ReservationStatus status) {
+        return RoomReservation.builder()
+                .id(id)
+                .room(room)
+                .bookingId(id)
+                .startDate(day(startDay))
+                .endDate(day(endDay))
+                .status(status)
+                .build();
+    }
+
+    private LocalDate day(int offset) {
+        return BASE.plusDays(offset);
+    }
+}
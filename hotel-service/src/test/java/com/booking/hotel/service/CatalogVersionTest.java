@@ -0,0 +1,91 @@
+package com.booking.hotel.service;
+
+import com.booking.hotel.entity.CatalogState;
+import com.booking.hotel.repository.CatalogStateRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(CatalogVersion.class)
+class CatalogVersionTest {
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private CatalogStateRepository catalogStateRepository;
+
+    @Test
+    void bump_ShouldIncrementSharedVersion() {
+        // Arrange
+        catalogStateRepository.saveAndFlush(CatalogState.builder().id(CatalogState.ID).version(42L).build());
+
+        // Act
+        catalogVersion.bump();
+
+        // Assert
+        assertEquals(43L, catalogStateRepository.findVersion(CatalogState.ID).orElseThrow());
+    }
+
+    @Test
+    void bump_ShouldPublishVersionAfterCommit() {
+        // Arrange
+        catalogStateRepository.saveAndFlush(CatalogState.builder().id(CatalogState.ID).version(42L).build());
+        catalogVersion.refresh();
+
+        // Act
+        catalogVersion.bump();
+        long beforeCommit = catalogVersion.current();
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        // Assert
+        assertEquals(42L, beforeCommit);
+        assertEquals(43L, catalogVersion.current());
+    }
+
+    @Test
+    void refresh_ShouldPickUpVersionBumpedByAnotherInstance() {
+        // Arrange
+        catalogStateRepository.saveAndFlush(CatalogState.builder().id(CatalogState.ID).version(42L).build());
+        catalogVersion.refresh();
+        catalogStateRepository.increment(CatalogState.ID);
+
+        // Act
+        catalogVersion.refresh();
+
+        // Assert
+        assertEquals(43L, catalogVersion.current());
+    }
+
+    @Test
+    void bump_WithoutRow_ShouldCreateVersionNewerThanStartTime() {
+        // Arrange
+        catalogStateRepository.deleteAllInBatch();
+        long before = System.currentTimeMillis();
+
+        // Act
+        catalogVersion.bump();
+
+        // Assert
+        assertTrue(catalogStateRepository.findVersion(CatalogState.ID).orElseThrow() >= before);
+    }
+
+    @Test
+    void initialize_WithExistingRow_ShouldKeepVersion() {
+        // Arrange
+        catalogStateRepository.deleteAllInBatch();
+        catalogStateRepository.saveAndFlush(CatalogState.builder().id(CatalogState.ID).version(7L).build());
+
+        // Act
+        catalogVersion.initialize();
+
+        // Assert
+        assertEquals(7L, catalogVersion.current());
+    }
+}
@@ -5,6 +5,7 @@ import com.booking.hotel.dto.HotelDTO;
 import com.booking.hotel.entity.Hotel;
 import com.booking.hotel.exception.ResourceNotFoundException;
 import com.booking.hotel.repository.HotelRepository;
+import com.booking.hotel.repository.HotelStatisticsRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,6 +20,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +29,15 @@ class HotelServiceTest {
     @Mock
     private HotelRepository hotelRepository;
 
+    @Mock
+    private HotelStatisticsRepository statisticsRepository;
+
+    @Mock
+    private HotelStatisticsService statisticsService;
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
     @InjectMocks
     private HotelService hotelService;
 
@@ -66,6 +77,8 @@ class HotelServiceTest {
         assertEquals("456 New St", result.getAddress());
         assertNotNull(result.getCreatedAt());
         verify(hotelRepository).save(any(Hotel.class));
+        verify(statisticsService).hotelCreated(argThat(hotel -> hotel.getId().equals(2L)));
+        verify(catalogVersion).bump();
     }
 
     @Test
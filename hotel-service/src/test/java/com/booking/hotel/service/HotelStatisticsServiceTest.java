@@ -0,0 +1,188 @@
+package com.booking.hotel.service;
+
+import com.booking.hotel.dto.HotelStatisticsDTO;
+import com.booking.hotel.entity.Hotel;
+import com.booking.hotel.entity.HotelStatistics;
+import com.booking.hotel.entity.Room;
+import com.booking.hotel.entity.RoomReservation;
+import com.booking.hotel.repository.HotelStatisticsRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({HotelService.class, HotelStatisticsService.class, CatalogVersion.class})
+class HotelStatisticsServiceTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private HotelService hotelService;
+
+    @Autowired
+    private HotelStatisticsService statisticsService;
+
+    @Autowired
+    private HotelStatisticsRepository statisticsRepository;
+
+    private final List<Hotel> hotels = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int h = 1; h <= 3; h++) {
+            Hotel hotel = entityManager.persist(Hotel.builder()
+                    .name("Hotel " + h)
+                    .address("Street " + h)
+                    .build());
+            hotels.add(hotel);
+            for (int r = 1; r <= 4; r++) {
+                Room room = entityManager.persist(Room.builder()
+                        .hotel(hotel)
+                        .number(String.valueOf(100 + r))
+                        .available(r != 4)
+                        .timesBooked(r)
+                        .build());
+                for (int b = 0; b < r; b++) {
+                    entityManager.persist(RoomReservation.builder()
+                            .room(room)
+                            .bookingId((long) (h * 100 + r * 10 + b))
+                            .requestId("req-" + h + "-" + r + "-" + b)
+                            .startDate(LocalDate.now().plusDays(b * 3L))
+                            .endDate(LocalDate.now().plusDays(b * 3L + 1))
+                            .status(b == 0 ? RoomReservation.ReservationStatus.RELEASED
+                                    : RoomReservation.ReservationStatus.CONFIRMED)
+                            .build());
+                }
+            }
+        }
+        // Empty hotel must still show up with zeroed counters
+        hotels.add(entityManager.persist(Hotel.builder().name("Empty Hotel").address("Nowhere").build()));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Rows for hotels inserted behind the service's back are created by reconciliation
+        assertEquals(4, statisticsService.reconcile());
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getAllHotelStatistics_ShouldRunSingleQuery() {
+        // Act
+        List<HotelStatisticsDTO> result = hotelService.getAllHotelStatistics();
+
+        // Assert
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityStatistics(Room.class.getName()).getLoadCount());
+        assertEquals(0, statistics.getEntityStatistics(RoomReservation.class.getName()).getLoadCount());
+        assertEquals(4, result.size());
+
+        HotelStatisticsDTO first = result.get(0);
+        assertEquals("Hotel 1", first.getHotelName());
+        assertEquals(4, first.getTotalRooms());
+        assertEquals(3, first.getAvailableRooms());
+        assertEquals(1, first.getUnavailableRooms());
+        assertEquals(2.5, first.getAverageTimesBooked());
+        assertEquals(6, first.getTotalReservations()); // 0 + 1 + 2 + 3 confirmed
+        assertEquals(25.0, first.getOccupancyRate());
+
+        HotelStatisticsDTO empty = result.get(3);
+        assertEquals("Empty Hotel", empty.getHotelName());
+        assertEquals(0, empty.getTotalRooms());
+        assertEquals(0, empty.getAvailableRooms());
+        assertEquals(0.0, empty.getAverageTimesBooked());
+        assertEquals(0, empty.getTotalReservations());
+        assertEquals(0.0, empty.getOccupancyRate());
+    }
+
+    @Test
+    void getHotelStatistics_ShouldRunSingleQuery() {
+        // Act
+        HotelStatisticsDTO result = hotelService.getHotelStatistics(hotels.get(1).getId());
+
+        // Assert
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals("Hotel 2", result.getHotelName());
+        assertEquals(4, result.getTotalRooms());
+        assertEquals(6, result.getTotalReservations());
+    }
+
+    @Test
+    void incrementalUpdates_ShouldMatchSourceTables() {
+        // Arrange
+        Hotel hotel = entityManager.find(Hotel.class, hotels.get(3).getId());
+        Room room = entityManager.persist(Room.builder()
+                .hotel(hotel)
+                .number("201")
+                .available(true)
+                .timesBooked(1)
+                .build());
+        RoomReservation reservation = entityManager.persist(RoomReservation.builder()
+                .room(room)
+                .bookingId(999L)
+                .requestId("req-new")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(1))
+                .status(RoomReservation.ReservationStatus.CONFIRMED)
+                .build());
+
+        // Act
+        statisticsService.roomCreated(room);
+        statisticsService.reservationsConfirmed(List.of(room));
+        reservation.setStatus(RoomReservation.ReservationStatus.RELEASED);
+        statisticsService.reservationReleased(room);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Assert
+        HotelStatistics row = statisticsRepository.findById(hotel.getId()).orElseThrow();
+        assertEquals(1, row.getTotalRooms());
+        assertEquals(1, row.getTotalTimesBooked());
+        assertEquals(0, row.getConfirmedReservations());
+        assertEquals(0, statisticsService.reconcile());
+    }
+
+    @Test
+    void reconcile_WhenCountersDrifted_ShouldRewriteRow() {
+        // Arrange
+        Long hotelId = hotels.get(0).getId();
+        statisticsService.reservationsConfirmed(List.of(entityManager.find(Room.class,
+                entityManager.getEntityManager()
+                        .createQuery("SELECT r.id FROM Room r WHERE r.hotel.id = :hotelId", Long.class)
+                        .setParameter("hotelId", hotelId)
+                        .setMaxResults(1)
+                        .getSingleResult())));
+        entityManager.clear();
+
+        // Act
+        int corrected = statisticsService.reconcile();
+
+        // Assert
+        assertEquals(1, corrected);
+        entityManager.flush();
+        entityManager.clear();
+        HotelStatistics row = statisticsRepository.findById(hotelId).orElseThrow();
+        assertEquals(6, row.getConfirmedReservations());
+        assertEquals(10, row.getTotalTimesBooked());
+    }
+}
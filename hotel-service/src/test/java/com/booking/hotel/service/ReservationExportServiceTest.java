@@ -0,0 +1,106 @@
+package com.booking.hotel.service;
+
+import com.booking.hotel.dto.ExportFormat;
+import com.booking.hotel.entity.Room;
+import com.booking.hotel.entity.RoomReservation;
+import com.booking.hotel.repository.RoomReservationRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationExportServiceTest {
+
+    @Mock
+    private RoomReservationRepository reservationRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @InjectMocks
+    private ReservationExportService exportService;
+
+    private RoomReservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        reservation = RoomReservation.builder()
+                .id(5L)
+                .room(Room.builder().id(7L).build())
+                .bookingId(3L)
+                .requestId("req-1")
+                .startDate(LocalDate.of(2026, 11, 1))
+                .endDate(LocalDate.of(2026, 11, 3))
+                .status(RoomReservation.ReservationStatus.CONFIRMED)
+                .createdAt(LocalDateTime.of(2026, 10, 1, 12, 0))
+                .build();
+    }
+
+    @Test
+    void exportReservations_AsNdjson_ShouldWriteOneObjectPerLine() throws Exception {
+        // Arrange
+        when(reservationRepository.streamAll()).thenReturn(Stream.of(reservation));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long rows = exportService.exportReservations(ExportFormat.NDJSON, out);
+
+        // Assert
+        assertEquals(1, rows);
+        String ndjson = out.toString(StandardCharsets.UTF_8);
+        assertTrue(ndjson.endsWith("\n"));
+        JsonNode row = objectMapper.readTree(ndjson.trim());
+        assertEquals(5L, row.get("id").asLong());
+        assertEquals(7L, row.get("roomId").asLong());
+        assertEquals("CONFIRMED", row.get("status").asText());
+        verify(entityManager).detach(reservation);
+    }
+
+    @Test
+    void exportReservations_AsCsv_ShouldWriteHeaderAndRows() throws Exception {
+        // Arrange
+        when(reservationRepository.streamAll()).thenReturn(Stream.of(reservation));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        exportService.exportReservations(ExportFormat.CSV, out);
+
+        // Assert
+        assertEquals("id,roomId,bookingId,requestId,startDate,endDate,status,createdAt,updatedAt\r\n"
+                        + "5,7,3,req-1,2026-11-01,2026-11-03,CONFIRMED,2026-10-01T12:00,\r\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportReservations_Empty_ShouldWriteNothing() throws Exception {
+        // Arrange
+        when(reservationRepository.streamAll()).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long rows = exportService.exportReservations(ExportFormat.NDJSON, out);
+
+        // Assert
+        assertEquals(0, rows);
+        assertEquals(0, out.size());
+    }
+}
@@ -0,0 +1,65 @@
+package com.booking.hotel.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomOccupancyBitmapTest {
+
+    private static final LocalDate ORIGIN = LocalDate.of(2030, 1, 1);
+
+    private RoomOccupancyBitmap bitmap;
+
+    @BeforeEach
+    void setUp() {
+        bitmap = new RoomOccupancyBitmap(ORIGIN, 730);
+    }
+
+    @Test
+    void anySet_ShouldDetectRangesAcrossWordBoundaries() {
+        // Arrange
+        bitmap.set(day(60), day(130));
+
+        // Act & Assert
+        assertFalse(bitmap.anySet(day(0), day(59)));
+        assertTrue(bitmap.anySet(day(0), day(60)));
+        assertTrue(bitmap.anySet(day(63), day(64)));
+        assertTrue(bitmap.anySet(day(130), day(200)));
+        assertFalse(bitmap.anySet(day(131), day(729)));
+    }
+
+    @Test
+    void clear_ShouldOnlyResetRequestedDays() {
+        // Arrange
+        bitmap.set(day(0), day(200));
+
+        // Act
+        bitmap.clear(day(64), day(127));
+
+        // Assert
+        assertTrue(bitmap.anySet(day(63), day(63)));
+        assertFalse(bitmap.anySet(day(64), day(127)));
+        assertTrue(bitmap.anySet(day(128), day(128)));
+    }
+
+    @Test
+    void set_ShouldClampRangesOutsideHorizon() {
+        // Act
+        bitmap.set(ORIGIN.minusDays(10), day(5));
+        bitmap.set(day(725), day(900));
+
+        // Assert
+        assertTrue(bitmap.anySet(day(0), day(0)));
+        assertFalse(bitmap.anySet(day(6), day(724)));
+        assertTrue(bitmap.anySet(day(729), day(729)));
+        assertFalse(bitmap.covers(day(700), day(730)));
+        assertFalse(bitmap.covers(ORIGIN.minusDays(1), day(10)));
+    }
+
+    private LocalDate day(int offset) {
+        return ORIGIN.plusDays(offset);
+    }
+}
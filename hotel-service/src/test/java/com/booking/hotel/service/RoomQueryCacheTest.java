@@ -0,0 +1,143 @@
+package com.booking.hotel.service;
+
+import com.booking.hotel.dto.RoomDTO;
+import com.booking.hotel.entity.Hotel;
+import com.booking.hotel.entity.Room;
+import com.booking.hotel.entity.RoomReservation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomQueryCacheTest {
+
+    private static final LocalDate START = LocalDate.now().plusDays(10);
+    private static final LocalDate END = START.plusDays(2);
+
+    private RoomQueryCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RoomQueryCache(true, 100, Duration.ofSeconds(10), new SimpleMeterRegistry());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void getRecommendedRooms_ConcurrentIdenticalQueries_ShouldShareOneLoad() throws Exception {
+        // Arrange
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // Act
+            Future<List<RoomDTO>> leader = executor.submit(() -> cache.getRecommendedRooms(1L, START, END, () -> {
+                loading.countDown();
+                await(release);
+                return rooms();
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            List<Future<List<RoomDTO>>> followers = List.of(
+                    executor.submit(() -> cache.getRecommendedRooms(1L, START, END, this::rooms)),
+                    executor.submit(() -> cache.getRecommendedRooms(1L, START, END, this::rooms)));
+            release.countDown();
+
+            // Assert
+            List<RoomDTO> result = leader.get(5, TimeUnit.SECONDS);
+            for (Future<List<RoomDTO>> follower : followers) {
+                assertSame(result, follower.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void invalidateAfterCommit_ShouldDropAffectedQueriesOnly() {
+        // Arrange
+        cache.getRecommendedRooms(1L, START, END, this::rooms);
+        cache.getRecommendedRooms(2L, START, END, this::rooms);
+        cache.getAvailableRooms(START, END, this::rooms);
+        cache.getAvailableRooms(END.plusDays(5), END.plusDays(7), this::rooms);
+        loads.set(0);
+
+        // Act
+        cache.invalidateAfterCommit(reservation(1L, START.plusDays(1), START.plusDays(4)));
+
+        // Assert
+        cache.getRecommendedRooms(1L, START, END, this::rooms);
+        cache.getAvailableRooms(START, END, this::rooms);
+        assertEquals(2, loads.get());
+
+        cache.getRecommendedRooms(2L, START, END, this::rooms);
+        cache.getAvailableRooms(END.plusDays(5), END.plusDays(7), this::rooms);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void getAvailableRooms_FailedLoad_ShouldNotBeCached() {
+        // Arrange
+        assertThrows(IllegalStateException.class, () -> cache.getAvailableRooms(START, END, () -> {
+            throw new IllegalStateException("database down");
+        }));
+
+        // Act
+        List<RoomDTO> result = cache.getAvailableRooms(START, END, this::rooms);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void getAvailableRooms_Disabled_ShouldAlwaysLoad() {
+        // Arrange
+        RoomQueryCache disabled = new RoomQueryCache(false, 100, Duration.ofSeconds(10), new SimpleMeterRegistry());
+
+        // Act
+        disabled.getAvailableRooms(START, END, this::rooms);
+        disabled.getAvailableRooms(START, END, this::rooms);
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    private List<RoomDTO> rooms() {
+        loads.incrementAndGet();
+        return List.of(RoomDTO.builder().id(1L).hotelId(1L).number("101").available(true).timesBooked(0).build());
+    }
+
+    private static RoomReservation reservation(Long hotelId, LocalDate startDate, LocalDate endDate) {
+        Room room = Room.builder()
+                .id(1L)
+                .hotel(Hotel.builder().id(hotelId).build())
+                .build();
+        return RoomReservation.builder()
+                .room(room)
+                .startDate(startDate)
+                .endDate(endDate)
+                .status(RoomReservation.ReservationStatus.CONFIRMED)
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.booking.hotel.service;
 
+import com.booking.hotel.dto.BatchConfirmAvailabilityItem;
+import com.booking.hotel.dto.BatchConfirmAvailabilityRequest;
+import com.booking.hotel.dto.BatchConfirmAvailabilityResponse;
 import com.booking.hotel.dto.ConfirmAvailabilityRequest;
 import com.booking.hotel.dto.ConfirmAvailabilityResponse;
 import com.booking.hotel.dto.ReleaseReservationRequest;
 import com.booking.hotel.entity.Hotel;
 import com.booking.hotel.entity.Room;
 import com.booking.hotel.entity.RoomReservation;
+import com.booking.hotel.exception.ResourceNotFoundException;
 import com.booking.hotel.exception.RoomNotAvailableException;
 import com.booking.hotel.repository.RoomRepository;
 import com.booking.hotel.repository.RoomReservationRepository;
@@ -14,16 +18,32 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +58,18 @@ class RoomReservationServiceTest {
     @Mock
     private RoomService roomService;
 
+    @Spy
+    private AvailabilityIndex availabilityIndex = new AvailabilityIndex();
+
+    @Spy
+    private RoomLockManager roomLockManager = new RoomLockManager(16);
+
+    @Mock
+    private RoomQueryCache roomQueryCache;
+
+    @Mock
+    private HotelStatisticsService statisticsService;
+
     @InjectMocks
     private RoomReservationService reservationService;
 
@@ -68,6 +100,8 @@ class RoomReservationServiceTest {
                 .startDate(LocalDate.now().plusDays(1))
                 .endDate(LocalDate.now().plusDays(3))
                 .build();
+
+        availabilityIndex.load(List.of());
     }
 
     @Test
@@ -75,8 +109,6 @@ class RoomReservationServiceTest {
         // Arrange
         when(reservationRepository.findByRequestId("test-request-id")).thenReturn(Optional.empty());
         when(roomService.getRoomById(1L)).thenReturn(testRoom);
-        when(roomRepository.findAvailableRoomsForDates(any(), any()))
-                .thenReturn(Arrays.asList(testRoom));
         when(reservationRepository.save(any(RoomReservation.class))).thenAnswer(i -> {
             RoomReservation reservation = i.getArgument(0);
             reservation.setId(1L);
@@ -92,7 +124,9 @@ class RoomReservationServiceTest {
         assertEquals("Room reserved successfully", response.getMessage());
         verify(reservationRepository).save(any(RoomReservation.class));
         verify(roomRepository).save(testRoom);
+        verify(statisticsService).reservationsConfirmed(List.of(testRoom));
         assertEquals(1, testRoom.getTimesBooked());
+        assertFalse(availabilityIndex.isAvailable(1L, confirmRequest.getStartDate(), confirmRequest.getEndDate()));
     }
 
     @Test
@@ -139,9 +173,15 @@ class RoomReservationServiceTest {
     void confirmAvailability_WithBookedDates_ShouldReturnFalse() {
         // Arrange
         when(reservationRepository.findByRequestId("test-request-id")).thenReturn(Optional.empty());
+        availabilityIndex.load(List.of(RoomReservation.builder()
+                .id(2L)
+                .room(testRoom)
+                .bookingId(2L)
+                .startDate(confirmRequest.getStartDate().plusDays(1))
+                .endDate(confirmRequest.getEndDate().plusDays(2))
+                .status(RoomReservation.ReservationStatus.CONFIRMED)
+                .build()));
         when(roomService.getRoomById(1L)).thenReturn(testRoom);
-        when(roomRepository.findAvailableRoomsForDates(any(), any()))
-                .thenReturn(Arrays.asList()); // No available rooms
         when(reservationRepository.save(any(RoomReservation.class))).thenAnswer(i -> i.getArgument(0));
 
         // Act
@@ -154,6 +194,372 @@ class RoomReservationServiceTest {
         verify(reservationRepository).save(any(RoomReservation.class)); // Creates RELEASED reservation
     }
 
+    @Test
+    void confirmAvailability_WithIndexNotLoaded_ShouldFallBackToDatabase() {
+        // Arrange
+        AvailabilityIndex coldIndex = new AvailabilityIndex();
+        RoomReservationService service = new RoomReservationService(
+                reservationRepository, roomRepository, roomService, coldIndex, roomQueryCache, roomLockManager,
+                statisticsService);
+
+        when(reservationRepository.findByRequestId("test-request-id")).thenReturn(Optional.empty());
+        when(roomService.getRoomById(1L)).thenReturn(testRoom);
+        when(reservationRepository.existsOverlappingReservation(1L,
+                confirmRequest.getStartDate(), confirmRequest.getEndDate())).thenReturn(true);
+
+        // Act
+        ConfirmAvailabilityResponse response = service.confirmAvailability(1L, confirmRequest);
+
+        // Assert
+        assertFalse(response.isAvailable());
+        verify(reservationRepository).existsOverlappingReservation(1L,
+                confirmRequest.getStartDate(), confirmRequest.getEndDate());
+    }
+
+    @Test
+    void confirmAvailability_WithConcurrentRequests_ShouldNeverConfirmOverlappingDates() throws Exception {
+        // Arrange
+        Room secondRoom = Room.builder()
+                .id(2L)
+                .hotel(testHotel)
+                .number("102")
+                .available(true)
+                .timesBooked(0)
+                .build();
+
+        AtomicLong ids = new AtomicLong();
+        Queue<RoomReservation> confirmed = new ConcurrentLinkedQueue<>();
+
+        when(reservationRepository.findByRequestId(any())).thenReturn(Optional.empty());
+        when(roomService.getRoomById(1L)).thenReturn(testRoom);
+        when(roomService.getRoomById(2L)).thenReturn(secondRoom);
+        when(reservationRepository.save(any(RoomReservation.class))).thenAnswer(i -> {
+            RoomReservation reservation = i.getArgument(0);
+            reservation.setId(ids.incrementAndGet());
+            if (reservation.getStatus() == RoomReservation.ReservationStatus.CONFIRMED) {
+                confirmed.add(reservation);
+            }
+            Thread.sleep(1); // widen the check-then-insert window
+            return reservation;
+        });
+
+        int threads = 16;
+        int requestsPerThread = 25;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        LocalDate base = LocalDate.now().plusDays(1);
+
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                Random random = new Random(thread);
+                start.await();
+                for (int r = 0; r < requestsPerThread; r++) {
+                    LocalDate startDate = base.plusDays(random.nextInt(30));
+                    ConfirmAvailabilityRequest request = ConfirmAvailabilityRequest.builder()
+                            .requestId("stress-" + thread + "-" + r)
+                            .bookingId((long) thread * requestsPerThread + r)
+                            .startDate(startDate)
+                            .endDate(startDate.plusDays(random.nextInt(4)))
+                            .build();
+
+                    // Drive the transaction callbacks the way the transaction manager would
+                    TransactionSynchronizationManager.initSynchronization();
+                    try {
+                        reservationService.confirmAvailability(r % 2 == 0 ? 1L : 2L, request);
+                        TransactionSynchronizationUtils.triggerAfterCommit();
+                        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+                    } finally {
+                        TransactionSynchronizationManager.clearSynchronization();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        // Act
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertFalse(confirmed.isEmpty());
+        List<RoomReservation> reservations = new ArrayList<>(confirmed);
+        for (int i = 0; i < reservations.size(); i++) {
+            for (int j = i + 1; j < reservations.size(); j++) {
+                RoomReservation a = reservations.get(i);
+                RoomReservation b = reservations.get(j);
+                boolean sameRoom = a.getRoom().getId().equals(b.getRoom().getId());
+                boolean overlapping = !a.getStartDate().isAfter(b.getEndDate())
+                        && !a.getEndDate().isBefore(b.getStartDate());
+                assertFalse(sameRoom && overlapping,
+                        "Overlapping reservations confirmed: " + a.getId() + " and " + b.getId());
+            }
+        }
+        long firstRoomConfirmed = reservations.stream().filter(r -> r.getRoom() == testRoom).count();
+        assertEquals(firstRoomConfirmed, testRoom.getTimesBooked().longValue());
+        assertEquals(reservations.size() - firstRoomConfirmed, secondRoom.getTimesBooked().longValue());
+    }
+
+    @Test
+    void confirmAvailabilityBatch_WithAllRoomsAvailable_ShouldSaveAllReservationsAtOnce() {
+        // Arrange
+        Room secondRoom = Room.builder()
+                .id(2L)
+                .hotel(testHotel)
+                .number("102")
+                .available(true)
+                .timesBooked(0)
+                .build();
+        BatchConfirmAvailabilityRequest request = batchRequest(
+                batchItem(1L, "group-1", 10L), batchItem(2L, "group-2", 11L));
+
+        when(reservationRepository.findByRequestIdIn(any())).thenReturn(List.of());
+        when(roomRepository.findAllById(any())).thenReturn(List.of(testRoom, secondRoom));
+        when(reservationRepository.saveAll(any())).thenAnswer(i -> {
+            List<RoomReservation> reservations = i.getArgument(0);
+            reservations.forEach(r -> r.setId(100L + r.getBookingId()));
+            return reservations;
+        });
+
+        // Act
+        BatchConfirmAvailabilityResponse response = reservationService.confirmAvailabilityBatch(request);
+
+        // Assert
+        assertTrue(response.isAvailable());
+        assertEquals(2, response.getResults().size());
+        assertEquals(110L, response.getResults().get(0).getReservationId());
+        assertEquals(111L, response.getResults().get(1).getReservationId());
+        verify(reservationRepository).saveAll(argThat(list -> ((List<?>) list).size() == 2));
+        verify(reservationRepository, never()).save(any());
+        assertEquals(1, testRoom.getTimesBooked());
+        assertEquals(1, secondRoom.getTimesBooked());
+        verify(statisticsService).reservationsConfirmed(List.of(testRoom, secondRoom));
+        assertFalse(availabilityIndex.isAvailable(2L, confirmRequest.getStartDate(), confirmRequest.getEndDate()));
+    }
+
+    @Test
+    void confirmAvailabilityBatch_WithOneBookedRoom_ShouldSaveNothing() {
+        // Arrange
+        Room secondRoom = Room.builder()
+                .id(2L)
+                .hotel(testHotel)
+                .number("102")
+                .available(true)
+                .timesBooked(0)
+                .build();
+        availabilityIndex.load(List.of(RoomReservation.builder()
+                .id(5L)
+                .room(secondRoom)
+                .bookingId(5L)
+                .startDate(confirmRequest.getStartDate())
+                .endDate(confirmRequest.getStartDate())
+                .status(RoomReservation.ReservationStatus.CONFIRMED)
+                .build()));
+        BatchConfirmAvailabilityRequest request = batchRequest(
+                batchItem(1L, "group-1", 10L), batchItem(2L, "group-2", 11L));
+
+        when(reservationRepository.findByRequestIdIn(any())).thenReturn(List.of());
+        when(roomRepository.findAllById(any())).thenReturn(List.of(testRoom, secondRoom));
+
+        // Act
+        BatchConfirmAvailabilityResponse response = reservationService.confirmAvailabilityBatch(request);
+
+        // Assert
+        assertFalse(response.isAvailable());
+        assertTrue(response.getResults().get(0).isAvailable());
+        assertFalse(response.getResults().get(1).isAvailable());
+        verify(reservationRepository, never()).saveAll(any());
+        verify(roomRepository, never()).saveAll(any());
+        assertEquals(0, testRoom.getTimesBooked());
+    }
+
+    @Test
+    void confirmAvailabilityBatch_WithOverlappingItemsForSameRoom_ShouldReject() {
+        // Arrange
+        BatchConfirmAvailabilityRequest request = batchRequest(
+                batchItem(1L, "group-1", 10L), batchItem(1L, "group-2", 11L));
+
+        when(reservationRepository.findByRequestIdIn(any())).thenReturn(List.of());
+        when(roomRepository.findAllById(any())).thenReturn(List.of(testRoom));
+
+        // Act
+        BatchConfirmAvailabilityResponse response = reservationService.confirmAvailabilityBatch(request);
+
+        // Assert
+        assertFalse(response.isAvailable());
+        assertFalse(response.getResults().get(1).isAvailable());
+        verify(reservationRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void confirmAvailabilityBatch_WithUnknownRoom_ShouldThrowException() {
+        // Arrange
+        BatchConfirmAvailabilityRequest request = batchRequest(
+                batchItem(1L, "group-1", 10L), batchItem(99L, "group-2", 11L));
+
+        when(reservationRepository.findByRequestIdIn(any())).thenReturn(List.of());
+        when(roomRepository.findAllById(any())).thenReturn(List.of(testRoom));
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class,
+                () -> reservationService.confirmAvailabilityBatch(request));
+        verify(reservationRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void reserveAnyRoom_WithFreeRooms_ShouldSpreadRequestsOverTopCandidates() {
+        // Arrange
+        List<Room> candidates = List.of(testRoom, room(2L, "102"), room(3L, "103"));
+        when(reservationRepository.findByRequestId(any())).thenReturn(Optional.empty());
+        when(roomRepository.findRecommendedRoomsForDates(1L, confirmRequest.getStartDate(), confirmRequest.getEndDate()))
+                .thenReturn(candidates);
+        when(reservationRepository.save(any(RoomReservation.class))).thenAnswer(i -> i.getArgument(0));
+
+        // Act
+        List<Long> reservedRooms = new ArrayList<>();
+        for (String requestId : List.of("a", "b", "c")) {
+            confirmRequest.setRequestId(requestId);
+            ConfirmAvailabilityResponse response = reservationService.reserveAnyRoom(1L, confirmRequest);
+            assertTrue(response.isAvailable());
+            reservedRooms.add(response.getRoomId());
+        }
+
+        // Assert: "a", "b" and "c" hash to offsets 1, 2 and 0 among the three candidates
+        assertEquals(List.of(2L, 3L, 1L), reservedRooms);
+        verify(statisticsService, times(3)).reservationsConfirmed(any());
+    }
+
+    @Test
+    void reserveAnyRoom_WhenCandidateIsLocked_ShouldReserveAnotherRoom() throws Exception {
+        // Arrange
+        Room secondRoom = room(2L, "102");
+        when(reservationRepository.findByRequestId(any())).thenReturn(Optional.empty());
+        when(roomRepository.findRecommendedRoomsForDates(1L, confirmRequest.getStartDate(), confirmRequest.getEndDate()))
+                .thenReturn(List.of(testRoom, secondRoom));
+        when(reservationRepository.save(any(RoomReservation.class))).thenAnswer(i -> i.getArgument(0));
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> holder = executor.submit(() -> {
+            try (RoomLockManager.RoomLock ignored = roomLockManager.lockUntilCompletion(1L)) {
+                locked.countDown();
+                done.await(5, TimeUnit.SECONDS);
+            }
+            return null;
+        });
+
+        try {
+            assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+            // Act
+            ConfirmAvailabilityResponse response = reservationService.reserveAnyRoom(1L, confirmRequest);
+
+            // Assert
+            assertTrue(response.isAvailable());
+            assertEquals(2L, response.getRoomId());
+            assertEquals(0, testRoom.getTimesBooked());
+            assertEquals(1, secondRoom.getTimesBooked());
+        } finally {
+            done.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void reserveAnyRoom_WhenAllCandidatesAreLocked_ShouldWaitAndReserve() throws Exception {
+        // Arrange
+        Room secondRoom = room(2L, "102");
+        when(reservationRepository.findByRequestId(any())).thenReturn(Optional.empty());
+        when(roomRepository.findRecommendedRoomsForDates(1L, confirmRequest.getStartDate(), confirmRequest.getEndDate()))
+                .thenReturn(List.of(testRoom, secondRoom));
+        when(reservationRepository.save(any(RoomReservation.class))).thenAnswer(i -> i.getArgument(0));
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<?> holder = executor.submit(() -> {
+            try (RoomLockManager.RoomLock ignored = roomLockManager.lockUntilCompletion(List.of(1L, 2L))) {
+                locked.countDown();
+                done.await(5, TimeUnit.SECONDS);
+            }
+            return null;
+        });
+
+        try {
+            assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+            // Act
+            Future<ConfirmAvailabilityResponse> reserving =
+                    executor.submit(() -> reservationService.reserveAnyRoom(1L, confirmRequest));
+            assertThrows(TimeoutException.class, () -> reserving.get(200, TimeUnit.MILLISECONDS));
+            done.countDown();
+            ConfirmAvailabilityResponse response = reserving.get(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertTrue(response.isAvailable());
+            assertTrue(List.of(1L, 2L).contains(response.getRoomId()));
+            assertEquals(1, testRoom.getTimesBooked() + secondRoom.getTimesBooked());
+        } finally {
+            done.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void reserveAnyRoom_WhenCandidatesWereTaken_ShouldReturnUnavailable() {
+        // Arrange
+        when(reservationRepository.findByRequestId("test-request-id")).thenReturn(Optional.empty());
+        availabilityIndex.load(List.of(RoomReservation.builder()
+                .id(2L)
+                .room(testRoom)
+                .bookingId(2L)
+                .startDate(confirmRequest.getStartDate())
+                .endDate(confirmRequest.getEndDate())
+                .status(RoomReservation.ReservationStatus.CONFIRMED)
+                .build()));
+        when(roomRepository.findRecommendedRoomsForDates(1L, confirmRequest.getStartDate(), confirmRequest.getEndDate()))
+                .thenReturn(List.of(testRoom));
+
+        // Act
+        ConfirmAvailabilityResponse response = reservationService.reserveAnyRoom(1L, confirmRequest);
+
+        // Assert
+        assertFalse(response.isAvailable());
+        assertNull(response.getRoomId());
+        verify(reservationRepository, never()).save(any());
+        verifyNoInteractions(statisticsService);
+    }
+
+    @Test
+    void reserveAnyRoom_WithDuplicateRequest_ShouldReturnExistingRoom() {
+        // Arrange
+        when(reservationRepository.findByRequestId("test-request-id")).thenReturn(Optional.of(RoomReservation.builder()
+                .id(7L)
+                .room(testRoom)
+                .bookingId(1L)
+                .requestId("test-request-id")
+                .startDate(confirmRequest.getStartDate())
+                .endDate(confirmRequest.getEndDate())
+                .status(RoomReservation.ReservationStatus.CONFIRMED)
+                .build()));
+
+        // Act
+        ConfirmAvailabilityResponse response = reservationService.reserveAnyRoom(1L, confirmRequest);
+
+        // Assert
+        assertTrue(response.isAvailable());
+        assertEquals(7L, response.getReservationId());
+        assertEquals(1L, response.getRoomId());
+        verify(roomRepository, never()).findRecommendedRoomsForDates(anyLong(), any(), any());
+    }
+
     @Test
     void releaseReservation_WithExistingReservation_ShouldReleaseIt() {
         // Arrange
@@ -172,6 +578,7 @@ class RoomReservationServiceTest {
                 .bookingId(1L)
                 .build();
 
+        availabilityIndex.load(List.of(reservation));
         when(reservationRepository.findByBookingId(1L)).thenReturn(Optional.of(reservation));
 
         // Act
@@ -180,6 +587,8 @@ class RoomReservationServiceTest {
         // Assert
         assertEquals(RoomReservation.ReservationStatus.RELEASED, reservation.getStatus());
         verify(reservationRepository).save(reservation);
+        verify(statisticsService).reservationReleased(testRoom);
+        assertTrue(availabilityIndex.isAvailable(1L, confirmRequest.getStartDate(), confirmRequest.getEndDate()));
     }
 
     @Test
@@ -208,6 +617,7 @@ class RoomReservationServiceTest {
         // Assert
         assertEquals(RoomReservation.ReservationStatus.RELEASED, reservation.getStatus());
         verify(reservationRepository, never()).save(any()); // Should not save again
+        verifyNoInteractions(statisticsService);
     }
 
     @Test
@@ -226,4 +636,30 @@ class RoomReservationServiceTest {
         // Assert
         verify(reservationRepository, never()).save(any());
     }
+
+    private BatchConfirmAvailabilityRequest batchRequest(BatchConfirmAvailabilityItem... items) {
+        return BatchConfirmAvailabilityRequest.builder()
+                .items(List.of(items))
+                .build();
+    }
+
+    private BatchConfirmAvailabilityItem batchItem(Long roomId, String requestId, Long bookingId) {
+        return BatchConfirmAvailabilityItem.builder()
+                .roomId(roomId)
+                .requestId(requestId)
+                .bookingId(bookingId)
+                .startDate(confirmRequest.getStartDate())
+                .endDate(confirmRequest.getEndDate())
+                .build();
+    }
+
+    private Room room(Long id, String number) {
+        return Room.builder()
+                .id(id)
+                .hotel(testHotel)
+                .number(number)
+                .available(true)
+                .timesBooked(0)
+                .build();
+    }
 }
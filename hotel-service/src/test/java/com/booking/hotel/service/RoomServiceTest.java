@@ -6,13 +6,16 @@ import com.booking.hotel.entity.Hotel;
 import com.booking.hotel.entity.Room;
 import com.booking.hotel.exception.ResourceNotFoundException;
 import com.booking.hotel.repository.RoomRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -32,6 +35,19 @@ class RoomServiceTest {
     @Mock
     private HotelService hotelService;
 
+    @Mock
+    private AvailabilityIndex availabilityIndex;
+
+    @Mock
+    private HotelStatisticsService statisticsService;
+
+    @Spy
+    private RoomQueryCache roomQueryCache =
+            new RoomQueryCache(true, 100, Duration.ofSeconds(10), new SimpleMeterRegistry());
+
+    @Mock
+    private CatalogVersion catalogVersion;
+
     @InjectMocks
     private RoomService roomService;
 
@@ -83,6 +99,8 @@ class RoomServiceTest {
         assertTrue(result.getAvailable());
         assertEquals(0, result.getTimesBooked());
         verify(roomRepository).save(any(Room.class));
+        verify(statisticsService).roomCreated(any(Room.class));
+        verify(catalogVersion).bump();
     }
 
     @Test
@@ -108,9 +126,9 @@ class RoomServiceTest {
         // Arrange
         LocalDate startDate = LocalDate.now().plusDays(1);
         LocalDate endDate = LocalDate.now().plusDays(3);
-        List<Room> rooms = Arrays.asList(testRoom);
+        List<RoomDTO> rooms = Arrays.asList(toDTO(testRoom));
 
-        when(roomRepository.findAvailableRoomsForDates(startDate, endDate)).thenReturn(rooms);
+        when(roomRepository.findAvailableRoomDTOsForDates(startDate, endDate)).thenReturn(rooms);
 
         // Act
         List<RoomDTO> result = roomService.getAvailableRooms(startDate, endDate);
@@ -121,6 +139,34 @@ class RoomServiceTest {
         assertEquals("101", result.get(0).getNumber());
     }
 
+    @Test
+    void getAvailableRooms_WithLoadedIndex_ShouldFilterBookedRooms() {
+        // Arrange
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        LocalDate endDate = LocalDate.now().plusDays(3);
+
+        Room bookedRoom = Room.builder()
+                .id(2L)
+                .hotel(testHotel)
+                .number("102")
+                .available(true)
+                .timesBooked(1)
+                .build();
+
+        when(availabilityIndex.isReady()).thenReturn(true);
+        when(roomRepository.findAvailableRoomDTOs()).thenReturn(Arrays.asList(toDTO(testRoom), toDTO(bookedRoom)));
+        when(availabilityIndex.isAvailable(1L, startDate, endDate)).thenReturn(true);
+        when(availabilityIndex.isAvailable(2L, startDate, endDate)).thenReturn(false);
+
+        // Act
+        List<RoomDTO> result = roomService.getAvailableRooms(startDate, endDate);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals("101", result.get(0).getNumber());
+        verify(roomRepository, never()).findAvailableRoomDTOsForDates(any(), any());
+    }
+
     @Test
     void getRecommendedRooms_ShouldReturnSortedRooms() {
         // Arrange
@@ -144,9 +190,9 @@ class RoomServiceTest {
                 .timesBooked(2)
                 .build();
 
-        List<Room> rooms = Arrays.asList(room2, room1); // Already sorted by repository
+        List<RoomDTO> rooms = Arrays.asList(toDTO(room2), toDTO(room1)); // Already sorted by repository
 
-        when(roomRepository.findRecommendedRoomsForDates(hotelId, startDate, endDate))
+        when(roomRepository.findRecommendedRoomDTOsForDates(hotelId, startDate, endDate))
                 .thenReturn(rooms);
 
         // Act
@@ -159,6 +205,22 @@ class RoomServiceTest {
         assertEquals(5, result.get(1).getTimesBooked());
     }
 
+    @Test
+    void getRecommendedRooms_RepeatedQuery_ShouldRunQueryOnce() {
+        // Arrange
+        LocalDate startDate = LocalDate.now().plusDays(1);
+        LocalDate endDate = LocalDate.now().plusDays(3);
+        when(roomRepository.findRecommendedRoomDTOsForDates(1L, startDate, endDate)).thenReturn(List.of(toDTO(testRoom)));
+
+        // Act
+        List<RoomDTO> first = roomService.getRecommendedRooms(1L, startDate, endDate);
+        List<RoomDTO> second = roomService.getRecommendedRooms(1L, startDate, endDate);
+
+        // Assert
+        assertSame(first, second);
+        verify(roomRepository, times(1)).findRecommendedRoomDTOsForDates(1L, startDate, endDate);
+    }
+
     @Test
     void getRoomById_WithValidId_ShouldReturnRoom() {
         // Arrange
@@ -182,4 +244,10 @@ class RoomServiceTest {
                 () -> roomService.getRoomById(999L)
         );
     }
+
+    // What RoomRepository's constructor expressions select for a room
+    private static RoomDTO toDTO(Room room) {
+        return new RoomDTO(room.getId(), room.getHotel().getId(), room.getNumber(),
+                room.getAvailable(), room.getTimesBooked());
+    }
 }